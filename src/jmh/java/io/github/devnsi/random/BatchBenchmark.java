@@ -0,0 +1,47 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of batches of identifiers from 10 up to 10 million, sequential and in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    public int amount;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("-", 3, new Random(0));
+    }
+
+    @Benchmark
+    public List<String> next() {
+        return this.generator.next(this.amount, this.parallel);
+    }
+}
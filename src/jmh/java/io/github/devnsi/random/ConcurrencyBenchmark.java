@@ -0,0 +1,80 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.ConcurrentRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a single generator shared between threads.
+ * <p>
+ * A shared {@link Random} lets all threads contend on its seed, while a {@link ConcurrentRandom} draws from a separate
+ * generator per thread and should scale with the amount of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrencyBenchmark {
+
+    @Param({"shared", "concurrent", "concurrent-seeded"})
+    public String random;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("-", 3, create(this.random));
+    }
+
+    private static Random create(String random) {
+        switch (random) {
+            case "shared":
+                return new Random(0);
+            case "concurrent":
+                return new ConcurrentRandom();
+            case "concurrent-seeded":
+                return new ConcurrentRandom(0);
+            default:
+                throw new IllegalArgumentException("unknown random " + random);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String next1() {
+        return this.generator.next();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String next2() {
+        return this.generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String next4() {
+        return this.generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String next8() {
+        return this.generator.next();
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing identifiers as UTF-8 bytes, by encoding the string or by copying encoded words.
+ * <p>
+ * Run with {@code -prof gc} to report the allocation per identifier.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodeBenchmark {
+
+    private final RandomIdGen generator = new RandomIdGen("-", 3, new Random(0));
+    private final byte[] array = new byte[256];
+    private final ByteBuffer direct = ByteBuffer.allocateDirect(256);
+
+    @Benchmark
+    public byte[] getBytes() {
+        return this.generator.next().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int writeToArray() {
+        return this.generator.writeTo(this.array, 0);
+    }
+
+    @Benchmark
+    public int writeToDirect() {
+        this.direct.clear();
+        return this.generator.writeTo(this.direct);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionaries;
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.FilteredWords;
+import io.github.devnsi.random.source.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of identifiers of short words, from a filtered view compared to rejecting drawn words that are too long.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"4", "6"})
+    public int maxLength;
+
+    private RandomIdGen unfiltered;
+    private RandomIdGen filtered;
+    private RandomIdGen rejecting;
+
+    @Setup
+    public void setup() {
+        Dictionary words = Dictionaries.randomWords();
+        this.unfiltered = new RandomIdGen("-", 3, new Random(0), words);
+        this.filtered = new RandomIdGen("-", 3, new Random(0), FilteredWords.maxLength(words, this.maxLength));
+        this.rejecting = new RandomIdGen("-", 3, new Random(0), words) {
+            @Override
+            protected void randomValues(RandomSource random, long[] positions, int offset) {
+                for (int i = offset; i < offset + this.amountParts; i++) {
+                    do {
+                        positions[i] = randomValue(random);
+                    } while (this.dictionary.readWord(positions[i]).length() > FilterBenchmark.this.maxLength);
+                }
+            }
+        };
+    }
+
+    @Benchmark
+    public String unfiltered() {
+        return this.unfiltered.next();
+    }
+
+    @Benchmark
+    public String filtered() {
+        return this.filtered.next();
+    }
+
+    @Benchmark
+    public String rejecting() {
+        return this.rejecting.next();
+    }
+}
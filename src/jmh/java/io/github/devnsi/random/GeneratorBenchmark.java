@@ -0,0 +1,57 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of single identifiers with the default dictionary, per generator mode.
+ * <p>
+ * Run with {@code -prof gc} to report the allocation per identifier.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    /** Random words or words by a permuted counter. */
+    @Param({"random", "sequential"})
+    public String mode;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = create(this.mode);
+    }
+
+    private static RandomIdGen create(String mode) {
+        switch (mode) {
+            case "random":
+                return new RandomIdGen("-", 3, new Random(0));
+            case "sequential":
+                return new SequentialIdGen("-", 3, 0);
+            default:
+                throw new IllegalArgumentException("unknown mode " + mode);
+        }
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifiers of at most a number of characters, by a maximum length compared to generating again until one fits.
+ * <p>
+ * Sampled to report the percentiles of the latency, such as p99.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LengthBenchmark {
+
+    @Param({"20", "32"})
+    public int maxLength;
+
+    private RandomIdGen retrying;
+    private RandomIdGen limited;
+
+    @Setup
+    public void setup() {
+        this.retrying = new RandomIdGen("-", 3, new Random(0));
+        this.limited = new RandomIdGen("-", 3, new Random(0));
+        this.limited.setMaxLength(this.maxLength);
+    }
+
+    @Benchmark
+    public String retrying() {
+        String id;
+        do {
+            id = this.retrying.next();
+        } while (id.length() > this.maxLength);
+        return id;
+    }
+
+    @Benchmark
+    public String limited() {
+        return this.limited.next();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of recording metrics, for single identifiers and batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("-", 3, new Random(0));
+        if (this.metrics) {
+            this.generator.enableMetrics();
+        }
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+
+    @Benchmark
+    public List<String> nextBatch() {
+        return this.generator.next(1000);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of identifiers back into word positions with the default dictionary.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+
+    private RandomIdGen generator;
+
+    private String id;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("-", 3, new Random(0));
+        this.id = this.generator.next();
+    }
+
+    @Benchmark
+    public long[] parse() {
+        return this.generator.parse(this.id);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return this.generator.isValid(this.id);
+    }
+}
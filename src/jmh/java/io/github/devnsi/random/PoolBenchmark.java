@@ -0,0 +1,64 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Latency of taking an identifier from a pool compared to generating it inline.
+ * <p>
+ * Consumers faster than the refill eventually fall back to inline generation, compare the hit rate printed on tear
+ * down. Refilling competes with the consumer for CPU time on machines with few cores, the work of the caller between
+ * identifiers leaves time to refill.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PoolBenchmark {
+
+    @Param({"inline", "pooled"})
+    public String mode;
+
+    /** Work of the caller between identifiers, in tokens of {@link Blackhole#consumeCPU(long)}. */
+    @Param({"0", "2000"})
+    public long work;
+
+    private Supplier<String> supplier;
+
+    @Setup
+    public void setup() {
+        RandomIdGen generator = new RandomIdGen();
+        this.supplier = "pooled".equals(this.mode) ? new IdPool(generator) : generator;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (this.supplier instanceof IdPool) {
+            IdPool pool = (IdPool) this.supplier;
+            System.out.printf("%nhit rate %.3f%n", pool.getHitRate());
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    public String next() {
+        Blackhole.consumeCPU(this.work);
+        return this.supplier.get();
+    }
+}
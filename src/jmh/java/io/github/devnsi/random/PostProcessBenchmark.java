@@ -0,0 +1,54 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Generation with the capitalizing post-processor of the README, applied per word drawn or precomputed as pure.
+ * <p>
+ * Run with {@code -prof gc} to report the allocation per identifier.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostProcessBenchmark {
+
+    private static final UnaryOperator<String> CAPITALIZE =
+            word -> word.substring(0, 1).toUpperCase() + word.substring(1);
+
+    @Param({"none", "per-word", "pure"})
+    public String processing;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("", 3, new Random(0));
+        if ("per-word".equals(this.processing)) {
+            this.generator.setPostProcessor(CAPITALIZE);
+        } else if ("pure".equals(this.processing)) {
+            this.generator.setPostProcessor(CAPITALIZE, true);
+        }
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+}
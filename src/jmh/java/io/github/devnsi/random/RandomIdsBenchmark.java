@@ -0,0 +1,43 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation with the static default configuration, as most callers use it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomIdsBenchmark {
+
+    @Benchmark
+    public String next() {
+        return RandomIds.next();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + RandomIds.POOL_PROPERTY + "=true")
+    public String nextPooled() {
+        return RandomIds.next();
+    }
+
+    /** Batch of ten identifiers. */
+    @Benchmark
+    public List<String> nextBatch() {
+        return RandomIds.next(10);
+    }
+}
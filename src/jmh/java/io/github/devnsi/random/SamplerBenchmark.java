@@ -0,0 +1,58 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing the positions of the words of a single identifier, by modulo of a draw per word compared to several
+ * positions per draw.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SamplerBenchmark {
+
+    private static final long SIZE = 100_000;
+    private static final int AMOUNT_PARTS = 3;
+
+    private final Random random = new Random(0);
+    private final RandomSource source = RandomSource.of(this.random);
+    private final PositionSampler sampler = new PositionSampler(SIZE, AMOUNT_PARTS);
+    private final long[] positions = new long[AMOUNT_PARTS];
+
+    @Benchmark
+    public long[] modulo() {
+        for (int i = 0; i < AMOUNT_PARTS; i++) {
+            this.positions[i] = Math.abs(this.random.nextLong()) % SIZE;
+        }
+        return this.positions;
+    }
+
+    @Benchmark
+    public long[] multiplyShift() {
+        for (int i = 0; i < AMOUNT_PARTS; i++) {
+            this.positions[i] = this.sampler.next(this.source);
+        }
+        return this.positions;
+    }
+
+    @Benchmark
+    public long[] batched() {
+        this.sampler.fill(this.source, this.positions, 0);
+        return this.positions;
+    }
+}
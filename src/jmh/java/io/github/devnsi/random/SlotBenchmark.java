@@ -0,0 +1,50 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.CompactWords;
+import io.github.devnsi.random.dictionary.SlotWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation from a single word list compared to a word list per slot (adjective-adjective-noun).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotBenchmark {
+
+    @Param({"single", "slots"})
+    public String dictionary;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        if ("slots".equals(this.dictionary)) {
+            SlotWords slots = new SlotWords(SlotWords.ADJECTIVES, SlotWords.ADJECTIVES, SlotWords.NOUNS);
+            this.generator = new RandomIdGen("-", new Random(0), slots);
+        } else {
+            this.generator = new RandomIdGen("-", 3, new Random(0), new CompactWords(SlotWords.NOUNS));
+        }
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.CompactWords;
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.IndexedWords;
+import io.github.devnsi.random.dictionary.RandomWords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from a fresh JVM to the first identifier, as seen by short-lived test forks.
+ * <p>
+ * Every measurement runs in its own fork without warmup, so class loading and dictionary loading are included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    /** Word list as text parsed line by line, or precompiled during the build. */
+    @Param({"text-indexed", "text-compact", "binary"})
+    public String dictionary;
+
+    @Benchmark
+    public String firstId() {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(), create(this.dictionary));
+        return generator.next();
+    }
+
+    private static Dictionary create(String dictionary) {
+        switch (dictionary) {
+            case "text-indexed":
+                return new IndexedWords("random-ids/words.txt");
+            case "text-compact":
+                return new CompactWords("random-ids/words.txt");
+            case "binary":
+                return new RandomWords();
+            default:
+                throw new IllegalArgumentException("unknown dictionary " + dictionary);
+        }
+    }
+}
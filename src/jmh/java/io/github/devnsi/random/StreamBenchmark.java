@@ -0,0 +1,81 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of streams and exports, compared with a stream generating each identifier on its own.
+ * <p>
+ * Streams are consumed by summing the length of the identifiers, as sized streams may be counted without traversal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamBenchmark {
+
+    @Param({"100000"})
+    public long amount;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.generator = new RandomIdGen("-", 3, new Random(0));
+    }
+
+    @Benchmark
+    public long generate() {
+        return Stream.generate(this.generator::next).limit(this.amount).mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public long stream() {
+        return this.generator.stream().limit(this.amount).mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public long streamSized() {
+        return this.generator.stream(this.amount).mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public long streamSizedParallel() {
+        return this.generator.stream(this.amount).parallel().mapToLong(String::length).sum();
+    }
+
+    @Benchmark
+    public void export() throws IOException {
+        this.generator.export(new NullOutputStream(), this.amount);
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            // discard.
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // discard.
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of unique identifiers after the given amount of identifiers was issued.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniqueBenchmark {
+
+    @Param({"0", "1000000", "10000000"})
+    public long issued;
+
+    @Param({"false", "true"})
+    public boolean unique;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() throws IOException {
+        this.generator = new RandomIdGen("-", 3, new Random(0));
+        this.generator.setUnique(this.unique);
+        this.generator.export(new NullWriter(), this.issued);
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+
+    static final class NullWriter extends Writer {
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            // discard.
+        }
+
+        @Override
+        public void write(String str) {
+            // discard.
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush.
+        }
+
+        @Override
+        public void close() {
+            // nothing to close.
+        }
+    }
+}
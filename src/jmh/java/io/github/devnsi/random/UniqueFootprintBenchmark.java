@@ -0,0 +1,64 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.RandomWords;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap per issued identifier of unique generators, reported as the {@code bytesPerId} counter.
+ * <p>
+ * Retained heap is the size of the object graph of the generator without its dictionary, which is dominated by the
+ * issued identifiers. There is a single measurement, as counters are summed over iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djol.magicFieldOffset=true"})
+public class UniqueFootprintBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public long issued;
+
+    private Dictionary dictionary;
+
+    @Setup
+    public void setup() {
+        this.dictionary = new RandomWords();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public double bytesPerId;
+    }
+
+    @Benchmark
+    public RandomIdGen fill(Footprint footprint) throws IOException {
+        RandomIdGen filled = new RandomIdGen("-", 3, new Random(0), this.dictionary);
+        filled.setUnique(true);
+        filled.export(new UniqueBenchmark.NullWriter(), this.issued);
+        long retained = GraphLayout.parseInstance(filled).totalSize();
+        long dictionary = GraphLayout.parseInstance(this.dictionary).totalSize();
+        footprint.bytesPerId = (retained - dictionary) / (double) this.issued;
+        return filled;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.devnsi.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the first static identifier in a fresh JVM, with or without loading the words in the background while
+ * the application does other startup work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class WarmUpBenchmark {
+
+    /** Whether {@link RandomIds#warmUp()} is called at startup. */
+    @Param({"false", "true"})
+    public boolean warmUp;
+
+    /** Other startup work of the application, not measured. */
+    @Setup
+    public void setup() throws InterruptedException {
+        if (this.warmUp) {
+            RandomIds.warmUp();
+        }
+        Thread.sleep(200);
+    }
+
+    @Benchmark
+    public String firstId() {
+        return RandomIds.next();
+    }
+}
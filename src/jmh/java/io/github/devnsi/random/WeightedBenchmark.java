@@ -0,0 +1,99 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.WeightedDictionary;
+import io.github.devnsi.random.source.RandomSource;
+import io.github.devnsi.random.source.SplittableSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing a single position uniformly compared to weighted by alias tables, for word frequencies following Zipf's law.
+ * <p>
+ * Run {@code build} with {@code -prof gc} to report the memory of the alias tables including the temporary memory of
+ * their construction, the tables alone take 8 bytes per word.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class WeightedBenchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private final RandomSource random = new SplittableSource(0);
+    private WeightedDictionary dictionary;
+    private PositionSampler uniform;
+    private AliasSampler alias;
+
+    @Setup
+    public void setup() {
+        this.dictionary = new Zipf(this.size);
+        this.uniform = new PositionSampler(this.size, 1);
+        this.alias = new AliasSampler(this.dictionary, 1);
+    }
+
+    @Benchmark
+    public long uniform() {
+        return this.uniform.next(this.random);
+    }
+
+    @Benchmark
+    public long alias() {
+        return this.alias.next(this.random);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public AliasSampler build() {
+        return new AliasSampler(this.dictionary, 1);
+    }
+
+    /** Words weighted by the inverse of their rank, without holding any words. */
+    private static final class Zipf implements WeightedDictionary {
+
+        private final int size;
+
+        private Zipf(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public double weight(long position) {
+            return 1.0 / (position + 1);
+        }
+
+        @Override
+        public long size() {
+            return this.size;
+        }
+
+        @Override
+        public String readWord(long position) {
+            return Long.toString(position);
+        }
+
+        @Override
+        public List<String> readWords(Long... positions) {
+            return Collections.emptyList();
+        }
+    }
+}
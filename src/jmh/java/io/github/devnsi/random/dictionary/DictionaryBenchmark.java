@@ -0,0 +1,90 @@
+package io.github.devnsi.random.dictionary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of words per dictionary implementation, as done for each identifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    private static final String WORDS = "random-ids/words.txt";
+
+    @Param({"resource", "indexed", "compact", "compact-cached", "mapped", "front-coded", "front-coded-cached"})
+    public String implementation;
+
+    private Dictionary dictionary;
+
+    @Setup
+    public void setup() {
+        this.dictionary = create(this.implementation);
+    }
+
+    static Dictionary create(String implementation) {
+        switch (implementation) {
+            case "resource":
+                return new ResourceWords(WORDS);
+            case "indexed":
+                return new IndexedWords(WORDS);
+            case "compact":
+                return new CompactWords(WORDS);
+            case "compact-cached":
+                return new CompactWords(WORDS, true);
+            case "mapped":
+                return new MappedWords(copyToFile(WORDS));
+            case "front-coded":
+                return new FrontCodedWords(WORDS);
+            case "front-coded-cached":
+                return new FrontCodedWords(WORDS, 64);
+            default:
+                throw new IllegalArgumentException("unknown dictionary " + implementation);
+        }
+    }
+
+    private static Path copyToFile(String resource) {
+        try {
+            Path file = Files.createTempDirectory("random-ids").resolve("words.txt");
+            Files.write(file, Resources.readBytes(resource));
+            return file;
+        } catch (IOException exception) {
+            throw new IllegalStateException("could not copy words to file", exception);
+        }
+    }
+
+    @Benchmark
+    public String readWord() {
+        return this.dictionary.readWord(position());
+    }
+
+    /** Lookup of the words for a single identifier of three words. */
+    @Benchmark
+    public List<String> readWords() {
+        return this.dictionary.readWords(position(), position(), position());
+    }
+
+    private long position() {
+        return ThreadLocalRandom.current().nextLong(this.dictionary.size());
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.devnsi.random.dictionary;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap per dictionary implementation, reported as the {@code retainedBytes} counter.
+ * <p>
+ * Retained heap is the size of the object graph of the dictionary. Cached dictionaries are reported after every word
+ * was read once, which is the upper bound of their footprint. There is a single measurement, as counters are summed
+ * over iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(1)
+public class FootprintBenchmark {
+
+    @Param({"resource", "indexed", "compact", "compact-cached", "front-coded", "front-coded-cached"})
+    public String implementation;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    public Dictionary load(Footprint footprint) {
+        Dictionary dictionary = DictionaryBenchmark.create(this.implementation);
+        if (this.implementation.endsWith("-cached")) {
+            for (long i = 0; i < dictionary.size(); i++) {
+                dictionary.readWord(i);
+            }
+        }
+        footprint.retainedBytes = GraphLayout.parseInstance(dictionary).totalSize();
+        return dictionary;
+    }
+}
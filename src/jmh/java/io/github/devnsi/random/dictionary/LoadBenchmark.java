@@ -0,0 +1,39 @@
+package io.github.devnsi.random.dictionary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of the default words until the first word can be read, per implementation of the dictionary.
+ * <p>
+ * Each iteration loads anew within a warmed-up JVM, see {@code StartupBenchmark} for loading in a fresh JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param({"resource", "indexed", "compact", "compact-cached", "mapped", "binary"})
+    public String implementation;
+
+    @Benchmark
+    public String load() {
+        Dictionary dictionary = "binary".equals(this.implementation)
+                ? new RandomWords()
+                : DictionaryBenchmark.create(this.implementation);
+        return dictionary.readWord(dictionary.size() - 1);
+    }
+}
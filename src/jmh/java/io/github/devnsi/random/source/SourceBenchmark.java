@@ -0,0 +1,72 @@
+package io.github.devnsi.random.source;
+
+import io.github.devnsi.random.RandomIdGen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drawing random values and generating identifiers, per source of random values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SourceBenchmark {
+
+    @Param({"random", "concurrent", "splittable", "xoshiro", "secure", "secure-unbuffered"})
+    public String source;
+
+    private RandomSource random;
+
+    private RandomIdGen generator;
+
+    @Setup
+    public void setup() {
+        this.random = create(this.source);
+        this.generator = new RandomIdGen("-", 3, create(this.source));
+    }
+
+    private static RandomSource create(String source) {
+        switch (source) {
+            case "random":
+                return RandomSource.of(new Random(0));
+            case "concurrent":
+                return RandomSource.of(new ConcurrentRandom());
+            case "splittable":
+                return new SplittableSource(0);
+            case "xoshiro":
+                return new XoshiroSource(0);
+            case "secure":
+                return new SecureSource();
+            case "secure-unbuffered":
+                return RandomSource.of(new SecureRandom());
+            default:
+                throw new IllegalArgumentException("unknown source " + source);
+        }
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    @Benchmark
+    public String next() {
+        return this.generator.next();
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.WeightedDictionary;
+import io.github.devnsi.random.source.RandomSource;
+
+/**
+ * Positions drawn in proportion to the weights of words in constant time, by the alias method of Walker as
+ * constructed by Vose ("A Linear Algorithm for Generating Random Numbers with a Given Distribution").
+ * <p>
+ * Each word owns a column holding the probability to keep it and an alias taken otherwise. A random value multiplied
+ * by the amount of words selects a column in its high 64 bits, and decides between the word and its alias by 24 bits
+ * of the leftover in its low 64 bits, so a single random value is drawn per position. The tables take 8 bytes per
+ * word, 0.8 MB for 100k words and 80 MB for 10M words, and the construction temporarily needs another 12 bytes per
+ * word.
+ * <p>
+ * Immutable and thread-safe.
+ */
+final class AliasSampler implements WordSampler {
+
+    /** Amount of words, being the amount of columns. */
+    private final long size;
+
+    /** Amount of words with a positive weight, which are the only words drawn. */
+    private final long support;
+
+    /** Amount of positions drawn by {@link #fill(RandomSource, long[], int)}. */
+    private final int amount;
+
+    /** Leftovers below which a column is biased, unsigned. */
+    private final long threshold;
+
+    /** Probability of each column to draw its own word instead of its alias. */
+    private final float[] probability;
+
+    /** Word drawn by each column if not its own. */
+    private final int[] alias;
+
+    /**
+     * Sampler for the weights of a dictionary.
+     * @param dictionary with the weights of its words.
+     * @param amount of positions drawn together.
+     * @throws IllegalStateException if a weight is negative or not finite, or all weights are zero.
+     */
+    AliasSampler(WeightedDictionary dictionary, int amount) {
+        int size = Math.toIntExact(dictionary.size());
+        double total = 0;
+        long support = 0;
+        for (int i = 0; i < size; i++) {
+            double weight = dictionary.weight(i);
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalStateException(String.format("invalid weight %s of word at %d", weight, i));
+            }
+            total += weight;
+            support += weight > 0 ? 1 : 0;
+        }
+        if (!(total > 0) || Double.isInfinite(total)) {
+            throw new IllegalStateException(String.format("cannot draw from a total weight of %s", total));
+        }
+        this.size = size;
+        this.support = support;
+        this.amount = amount;
+        this.threshold = Long.remainderUnsigned(-this.size, this.size);
+        this.probability = new float[size];
+        this.alias = new int[size];
+
+        double[] scaled = new double[size];
+        int[] work = new int[size]; // columns below 1 from the front, the others from the back.
+        int small = 0;
+        int large = size;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = dictionary.weight(i) * size / total;
+            this.alias[i] = i;
+            if (scaled[i] < 1) {
+                work[small++] = i;
+            } else {
+                work[--large] = i;
+            }
+        }
+        while (small > 0 && large < size) {
+            int less = work[--small];
+            int more = work[large++];
+            this.probability[less] = (float) scaled[less];
+            this.alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                work[small++] = more;
+            } else {
+                work[--large] = more;
+            }
+        }
+        while (large < size) {
+            this.probability[work[large++]] = 1;
+        }
+        while (small > 0) {
+            this.probability[work[--small]] = 1; // rounding errors of columns that should be exactly 1.
+        }
+    }
+
+    /**
+     * Amount of words that can be drawn, words without weight are never drawn.
+     * @return amount of words with a positive weight.
+     */
+    long support() {
+        return this.support;
+    }
+
+    /**
+     * Draws a single weighted position.
+     * @param random to draw from.
+     * @return position of a word.
+     */
+    @Override
+    public long next(RandomSource random) {
+        while (true) {
+            long value = random.nextLong();
+            long leftover = value * this.size;
+            if (Long.compareUnsigned(leftover, this.threshold) >= 0) {
+                int column = (int) PositionSampler.multiplyHigh(value, this.size);
+                return (leftover >>> 40) * 0x1.0p-24f < this.probability[column] ? column : this.alias[column];
+            }
+        }
+    }
+
+    /**
+     * Draws the configured amount of independent weighted positions.
+     * @param random to draw from.
+     * @param positions to be filled.
+     * @param offset of the first position to fill.
+     */
+    @Override
+    public void fill(RandomSource random, long[] positions, int offset) {
+        for (int i = offset; i < offset + this.amount; i++) {
+            positions[i] = next(random);
+        }
+    }
+}
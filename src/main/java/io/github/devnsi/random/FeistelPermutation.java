@@ -0,0 +1,107 @@
+package io.github.devnsi.random;
+
+/**
+ * Keyed bijective permutation of the range {@code [0, size)}, mapping each value to a distinct random-looking value.
+ * <p>
+ * Values are permuted by a balanced Feistel network over the smallest even amount of bits covering the range. Results
+ * outside the range are permuted again (cycle walking), which takes less than four rounds of the network on average.
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 6;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    /**
+     * Permutation of a range.
+     * @param size of the range, positive.
+     * @param key to select the permutation.
+     */
+    public FeistelPermutation(long size, long key) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.size = size;
+        int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << this.halfBits) - 1;
+        long seed = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            seed += 0x9e3779b97f4a7c15L;
+            this.roundKeys[i] = mix(seed);
+        }
+    }
+
+    /**
+     * Amount of values in the range.
+     * @return size of the range.
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Permutes a value.
+     * @param value between 0 and {@link #size()}-1.
+     * @return distinct value between 0 and {@link #size()}-1.
+     */
+    public long apply(long value) {
+        if (value < 0 || value >= this.size) {
+            throw new IllegalArgumentException("value must be between 0 and " + (this.size - 1) + ": " + value);
+        }
+        long permuted = value;
+        do {
+            permuted = encrypt(permuted);
+        } while (Long.compareUnsigned(permuted, this.size) >= 0);
+        return permuted;
+    }
+
+    /**
+     * Reverts the permutation of a value.
+     * @param permuted between 0 and {@link #size()}-1.
+     * @return value that is permuted to the given value.
+     */
+    public long invert(long permuted) {
+        if (permuted < 0 || permuted >= this.size) {
+            throw new IllegalArgumentException("value must be between 0 and " + (this.size - 1) + ": " + permuted);
+        }
+        long value = permuted;
+        do {
+            value = decrypt(value);
+        } while (Long.compareUnsigned(value, this.size) >= 0);
+        return value;
+    }
+
+    private long encrypt(long value) {
+        long left = value >>> this.halfBits & this.halfMask;
+        long right = value & this.halfMask;
+        for (long roundKey : this.roundKeys) {
+            long next = left ^ mix(right ^ roundKey) & this.halfMask;
+            left = right;
+            right = next;
+        }
+        return left << this.halfBits | right;
+    }
+
+    private long decrypt(long value) {
+        long left = value >>> this.halfBits & this.halfMask;
+        long right = value & this.halfMask;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            long previous = right ^ mix(left ^ this.roundKeys[i]) & this.halfMask;
+            right = left;
+            left = previous;
+        }
+        return left << this.halfBits | right;
+    }
+
+    /** Spreads the bits of the value (finalizer of SplitMix64). */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+        return z ^ z >>> 31;
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.devnsi.random;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of a generator, enabled by {@link RandomIdGen#enableMetrics()}.
+ * <p>
+ * Counters are striped to not contend between threads, durations are counted in fixed log-linear buckets. Recording
+ * does not allocate. Every identifier is counted, but only a random sample of single identifiers is timed to keep the
+ * reads of the clock off most calls, batches are always timed. Metrics are read by {@link #snapshot()} or through JMX
+ * once {@link #register(String) registered}.
+ * <p>
+ * Thread-safe.
+ */
+public final class GeneratorMetrics implements GeneratorMetricsMXBean {
+
+    /** Domain of the registered object names. */
+    private static final String DOMAIN = "io.github.devnsi.random";
+
+    /** Single identifiers are timed with a probability of 1 in {@code SAMPLE_MASK + 1}. */
+    private static final int SAMPLE_MASK = 15;
+
+    /** Start of an identifier that is not timed. */
+    static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final long combinations;
+
+    private final LongAdder batchIds = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder dictionaryNanos = new LongAdder();
+    private final LatencyHistogram nextLatency = new LatencyHistogram();
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+
+    /** Name under which the metrics are registered, or null. */
+    private volatile ObjectName name;
+
+    /**
+     * Metrics of a generator.
+     * @param combinations amount of distinct identifiers of the generator.
+     */
+    GeneratorMetrics(long combinations) {
+        this.combinations = combinations;
+    }
+
+    /**
+     * Starts a single identifier.
+     * @return start to pass to {@link #recordNext(long)}.
+     */
+    long startNext() {
+        if ((ThreadLocalRandom.current().nextInt() & SAMPLE_MASK) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a single identifier.
+     * @param start returned by {@link #startNext()}.
+     */
+    void recordNext(long start) {
+        this.calls.increment();
+        if (start != NOT_SAMPLED) {
+            this.nextLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a batch of identifiers.
+     * @param amount of identifiers in the batch.
+     * @param nanos duration of generating the batch.
+     * @param dictionaryNanos duration of reading the words from the dictionary.
+     */
+    void recordBatch(int amount, long nanos, long dictionaryNanos) {
+        this.batchIds.add(amount);
+        this.batches.increment();
+        this.dictionaryNanos.add(dictionaryNanos);
+        this.batchLatency.record(nanos);
+    }
+
+    /**
+     * Copy of the current metrics, not atomic with concurrent generation.
+     * @return snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(getIds(), getCalls(), getBatches(), getDictionaryNanos(), this.combinations,
+                this.nextLatency.snapshot(), this.batchLatency.snapshot());
+    }
+
+    /**
+     * Registers the metrics as MXBean with the platform MBean server.
+     * @param name of the generator, unique among registered generators.
+     * @return object name of the registered metrics.
+     * @throws IllegalStateException if already registered or the registration failed.
+     */
+    public synchronized ObjectName register(String name) {
+        if (this.name != null) {
+            throw new IllegalStateException(String.format("metrics are already registered as %s", this.name));
+        }
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=RandomIdGen,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            this.name = objectName;
+            return objectName;
+        } catch (MalformedObjectNameException exception) {
+            throw new IllegalArgumentException(String.format("invalid name %s", name), exception);
+        } catch (JMException exception) {
+            throw new IllegalStateException(String.format("could not register metrics %s", name), exception);
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if registered.
+     */
+    public synchronized void unregister() {
+        ObjectName objectName = this.name;
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException exception) {
+            // already removed from the server.
+        } catch (JMException exception) {
+            throw new IllegalStateException(String.format("could not unregister metrics %s", objectName), exception);
+        }
+        this.name = null;
+    }
+
+    @Override
+    public long getIds() {
+        return this.calls.sum() + this.batchIds.sum();
+    }
+
+    @Override
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    @Override
+    public long getBatches() {
+        return this.batches.sum();
+    }
+
+    @Override
+    public long getNextP50Nanos() {
+        return this.nextLatency.snapshot().getPercentileNanos(50);
+    }
+
+    @Override
+    public long getNextP99Nanos() {
+        return this.nextLatency.snapshot().getPercentileNanos(99);
+    }
+
+    @Override
+    public long getNextMaxNanos() {
+        return this.nextLatency.snapshot().getMaxNanos();
+    }
+
+    @Override
+    public long getBatchP99Nanos() {
+        return this.batchLatency.snapshot().getPercentileNanos(99);
+    }
+
+    @Override
+    public long getDictionaryNanos() {
+        return this.dictionaryNanos.sum();
+    }
+
+    @Override
+    public long getCombinations() {
+        return this.combinations;
+    }
+
+    @Override
+    public double getCollisionProbability() {
+        return collisionProbability(getIds(), this.combinations);
+    }
+
+    /**
+     * Birthday problem approximation {@code 1 - e^(-n(n-1)/2d)} for n identifiers out of d combinations.
+     */
+    static double collisionProbability(long ids, long combinations) {
+        if (ids < 2) {
+            return 0;
+        }
+        double n = ids;
+        return -Math.expm1(-n * (n - 1) / (2.0 * combinations));
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.devnsi.random;
+
+/**
+ * Management interface of {@link GeneratorMetrics}, registered by {@link GeneratorMetrics#register(String)}.
+ */
+public interface GeneratorMetricsMXBean {
+
+    /**
+     * Amount of identifiers generated.
+     * @return identifiers.
+     */
+    long getIds();
+
+    /**
+     * Amount of identifiers generated one at a time.
+     * @return calls of {@link RandomIdGen#next()} and {@code writeTo}.
+     */
+    long getCalls();
+
+    /**
+     * Amount of batches generated with a single lookup in the dictionary.
+     * @return batches of {@link RandomIdGen#next(int)}, streams, exports and pools.
+     */
+    long getBatches();
+
+    /**
+     * Median duration of generating a single identifier.
+     * @return nanoseconds.
+     */
+    long getNextP50Nanos();
+
+    /**
+     * 99th percentile of the duration of generating a single identifier.
+     * @return nanoseconds.
+     */
+    long getNextP99Nanos();
+
+    /**
+     * Longest duration of generating a single identifier.
+     * @return nanoseconds.
+     */
+    long getNextMaxNanos();
+
+    /**
+     * 99th percentile of the duration of generating a batch.
+     * @return nanoseconds.
+     */
+    long getBatchP99Nanos();
+
+    /**
+     * Time spent reading the words of batches from the dictionary.
+     * @return nanoseconds.
+     */
+    long getDictionaryNanos();
+
+    /**
+     * Amount of distinct identifiers of the generator.
+     * @return combinations.
+     */
+    long getCombinations();
+
+    /**
+     * Probability that the identifiers generated so far contain a repetition.
+     * @return probability between 0 and 1.
+     */
+    double getCollisionProbability();
+}
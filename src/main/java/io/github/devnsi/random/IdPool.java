@@ -0,0 +1,174 @@
+package io.github.devnsi.random;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Pool of identifiers generated ahead of time, to take identifiers without generating them in the calling thread.
+ * <p>
+ * Identifiers are kept in a lock-free ring buffer. A background thread, virtual if available, refills the buffer in
+ * batches up to the high watermark once it drops below the low watermark. An empty pool generates identifiers in the
+ * calling thread instead. The order of identifiers is not reproducible even if the generator is seeded.
+ * <p>
+ * Thread-safe, if the generator is thread-safe.
+ */
+public class IdPool implements Supplier<String>, AutoCloseable {
+
+    /** Default amount of pooled identifiers. */
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    /** Maximum amount of identifiers generated at once. */
+    private static final int REFILL_BATCH = 1024;
+
+    private final RandomIdGen generator;
+    private final RingBuffer<String> ring;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final Thread refiller;
+
+    /** Whether a refill has been requested or is running. */
+    private final AtomicBoolean refilling = new AtomicBoolean(true);
+    private volatile boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Pool of the default capacity, refilled once less than a quarter is left.
+     * @param generator to generate identifiers with.
+     */
+    public IdPool(RandomIdGen generator) {
+        this(generator, DEFAULT_CAPACITY / 4, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Pool refilled between watermarks.
+     * @param generator to generate identifiers with.
+     * @param lowWatermark amount of identifiers below which the pool is refilled.
+     * @param highWatermark amount of identifiers up to which the pool is refilled, being its capacity.
+     * @throws IllegalArgumentException if the watermarks are not {@code 0 <= low < high}.
+     */
+    public IdPool(RandomIdGen generator, int lowWatermark, int highWatermark) {
+        if (lowWatermark < 0 || lowWatermark >= highWatermark) {
+            throw new IllegalArgumentException("invalid watermarks " + lowWatermark + " and " + highWatermark);
+        }
+        this.generator = generator;
+        this.ring = new RingBuffer<>(highWatermark);
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        this.refiller = startDaemon("random-ids-pool", this::refill);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @see #next()
+     */
+    @Override
+    public String get() {
+        return next();
+    }
+
+    /**
+     * Takes an identifier from the pool, or generates it if the pool is empty.
+     * @return identifier.
+     */
+    public String next() {
+        String id = this.ring.poll();
+        if (id == null) {
+            this.misses.increment();
+            requestRefill();
+            return this.generator.next();
+        }
+        this.hits.increment();
+        if (this.ring.size() < this.lowWatermark) {
+            requestRefill();
+        }
+        return id;
+    }
+
+    private void requestRefill() {
+        if (!this.closed && this.refilling.compareAndSet(false, true)) {
+            LockSupport.unpark(this.refiller);
+        }
+    }
+
+    private void refill() {
+        String[] batch = new String[REFILL_BATCH];
+        while (!this.closed) {
+            int missing;
+            while ((missing = this.highWatermark - this.ring.size()) > 0 && !this.closed) {
+                int amount = Math.min(missing, batch.length);
+                this.generator.nextBatch(this.generator.random, batch, 0, amount);
+                for (int i = 0; i < amount && this.ring.offer(batch[i]); i++) {
+                    batch[i] = null;
+                }
+            }
+            this.refilling.set(false);
+            if (this.ring.size() >= this.lowWatermark || !this.refilling.compareAndSet(false, true)) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Amount of identifiers currently in the pool.
+     * @return amount of pooled identifiers.
+     */
+    public int size() {
+        return this.ring.size();
+    }
+
+    /**
+     * Amount of identifiers taken from the pool.
+     * @return amount of hits.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Amount of identifiers generated in the calling thread as the pool was empty.
+     * @return amount of misses.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Ratio of identifiers taken from the pool.
+     * @return hits relative to all identifiers, 1 if none were taken yet.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 1 : (double) hits / total;
+    }
+
+    /**
+     * Stops refilling, identifiers are generated in the calling thread once the pool is empty.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.refiller);
+    }
+
+    /**
+     * Starts a virtual thread on Java 21 or later, a daemon platform thread otherwise.
+     */
+    private static Thread startDaemon(String name, Runnable task) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class).invoke(builder, name);
+            return (Thread) builderType.getMethod("start", Runnable.class).invoke(builder, task);
+        } catch (ReflectiveOperationException | RuntimeException unavailable) {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            thread.start();
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.RandomSource;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator generating identifiers in chunks, splittable for parallel streams.
+ * <p>
+ * Chunks advanced one at a time start with a single identifier and double up to the batch size of the generator, so
+ * short streams generate less than twice the identifiers taken, which matters for unique identifiers. Traversing all
+ * remaining identifiers generates full chunks right away. Split spliterators draw from their own random, split from the random of the spliterator that was split.
+ */
+class IdSpliterator implements Spliterator<String> {
+
+    /** Size of the first chunk. */
+    private static final int INITIAL_CHUNK = 1;
+
+    private final RandomIdGen generator;
+    private final RandomSource random;
+    private final int maxChunk;
+
+    /** Whether the amount of identifiers is limited. */
+    private final boolean bounded;
+
+    /** Identifiers yet to be generated, if bounded. */
+    private long remaining;
+
+    private String[] chunk = new String[0];
+    private int chunkSize;
+    private int index;
+
+    /**
+     * Spliterator generating identifiers.
+     * @param generator to generate the identifiers with.
+     * @param random to determine the words.
+     * @param maxChunk maximum amount of identifiers generated at once.
+     * @param amount of identifiers, negative if unbounded.
+     */
+    IdSpliterator(RandomIdGen generator, RandomSource random, int maxChunk, long amount) {
+        this.generator = generator;
+        this.random = random;
+        this.maxChunk = maxChunk;
+        this.bounded = amount >= 0;
+        this.remaining = Math.max(amount, 0);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+        if (this.index == this.chunkSize && !nextChunk(false)) {
+            return false;
+        }
+        action.accept(this.chunk[this.index++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+        do {
+            while (this.index < this.chunkSize) {
+                action.accept(this.chunk[this.index++]);
+            }
+        } while (nextChunk(true));
+    }
+
+    /**
+     * Generates the next chunk, twice the size of the previous one or of the maximum size if all are taken.
+     * @return whether identifiers remain.
+     */
+    private boolean nextChunk(boolean all) {
+        int size = all ? this.maxChunk : Math.min(Math.max(this.chunk.length * 2, INITIAL_CHUNK), this.maxChunk);
+        if (this.bounded) {
+            size = (int) Math.min(size, this.remaining);
+            this.remaining -= size;
+        }
+        if (size == 0) {
+            return false;
+        }
+        if (this.chunk.length < size) {
+            this.chunk = new String[size];
+        }
+        this.generator.nextBatch(this.random, this.chunk, 0, size);
+        this.chunkSize = size;
+        this.index = 0;
+        return true;
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        if (!this.bounded) {
+            return new IdSpliterator(this.generator, this.random.split(), this.maxChunk, -1);
+        }
+        if (this.remaining < this.maxChunk) {
+            return null;
+        }
+        long half = this.remaining / 2;
+        this.remaining -= half;
+        return new IdSpliterator(this.generator, this.random.split(), this.maxChunk, half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.bounded ? this.remaining + this.chunkSize - this.index : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        return this.bounded ? characteristics | Spliterator.SIZED | Spliterator.SUBSIZED : characteristics;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.devnsi.random;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations in nanoseconds with a bounded relative error, after the log-linear buckets of HdrHistogram.
+ * <p>
+ * Durations below {@code 2^SUB_BITS} are counted exactly. Larger durations are counted in buckets, each power of two
+ * being split into {@code 2^SUB_BITS} linear buckets, so a bucket spans at most 1/32 of its values. All durations up
+ * to {@link Long#MAX_VALUE} fit into a fixed array of counters, recording does neither allocate nor lock.
+ * <p>
+ * Thread-safe.
+ */
+final class LatencyHistogram {
+
+    /** Bits of precision within each power of two. */
+    private static final int SUB_BITS = 5;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Amount of buckets to cover all non-negative {@code long} values. */
+    static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts a duration.
+     * @param nanos duration, negative durations of a non-monotonic clock are counted as zero.
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(bucketOf(value));
+        this.total.add(value);
+        long current = this.max.get();
+        while (value > current && !this.max.compareAndSet(current, value)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * Copy of the current counts, not atomic with concurrent recording.
+     * @return snapshot.
+     */
+    LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = this.counts.get(i);
+        }
+        return new LatencySnapshot(copy, this.total.sum(), this.max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int log = 63 - Long.numberOfLeadingZeros(value);
+        int shift = log - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Highest value counted in a bucket.
+     */
+    static long highestOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BITS) - 1;
+        long sub = SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1));
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.devnsi.random;
+
+/**
+ * Distribution of durations in nanoseconds at a point in time.
+ * <p>
+ * Percentiles are accurate to about 3%, reported as the highest duration of the bucket they fall into.
+ * <p>
+ * Immutable and thread-safe.
+ */
+public final class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long total, long max) {
+        this.counts = counts;
+        long count = 0;
+        for (long bucket : counts) {
+            count += bucket;
+        }
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    /**
+     * Amount of recorded durations.
+     * @return count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Sum of all recorded durations.
+     * @return nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.total;
+    }
+
+    /**
+     * Longest recorded duration.
+     * @return nanoseconds, 0 if none were recorded.
+     */
+    public long getMaxNanos() {
+        return this.max;
+    }
+
+    /**
+     * Average recorded duration.
+     * @return nanoseconds, 0 if none were recorded.
+     */
+    public double getMeanNanos() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Duration that the given percentage of recorded durations did not exceed.
+     * @param percentile between 0 and 100, for example 99 for the p99.
+     * @return nanoseconds, 0 if none were recorded.
+     * @throws IllegalArgumentException if the percentile is out of range.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException(String.format("percentile %s is not between 0 and 100", percentile));
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestOf(i), this.max);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.1fns, p50=%dns, p99=%dns, max=%dns", this.count, getMeanNanos(),
+                getPercentileNanos(50), getPercentileNanos(99), this.max);
+    }
+}
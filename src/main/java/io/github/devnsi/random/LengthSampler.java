@@ -0,0 +1,305 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.source.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Uniform positions of the words of identifiers that do not exceed a maximum length, without rejecting identifiers.
+ * <p>
+ * The words of each slot are grouped by their length once. The amount of combinations of the remaining words within
+ * each remaining length is counted ahead. If all identifiers can be counted in a {@code long}, a single uniform number
+ * below their amount is drawn and decoded into the words of the identifier it counts. Otherwise each word draws its
+ * length in proportion to the identifiers that can still be completed with it, and then a uniform word of that length,
+ * up to the rounding of counts beyond 2^53 held as {@code double}. Either way every identifier within the maximum
+ * length is equally likely. Decoding scans the lengths of words, which are few. Counts are kept only up to the sum of
+ * the longest word of each slot, beyond which a maximum length does not {@linkplain #limits() limit} identifiers.
+ * <p>
+ * Immutable and thread-safe.
+ */
+final class LengthSampler implements WordSampler {
+
+    /** Amount of words read from the dictionary at once while grouping. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /** Words of each slot grouped by length. */
+    private final Buckets[] slots;
+
+    /** Amount of characters available to the words of an identifier, at most the sum of the longest words. */
+    private final int budget;
+
+    /** Whether the longest words of all slots together exceed the amount of characters available. */
+    private final boolean limits;
+
+    /** Amount of ways to complete the slots from each slot on (first index) within a length (second index). */
+    private final double[][] ways;
+
+    /** Exact {@link #ways}, or null if exceeding the range of {@code long}. */
+    private final long[][] exactWays;
+
+    /** Leftovers below which drawing an identifier of all exact ways is biased, unsigned. */
+    private final long threshold;
+
+    /**
+     * Sampler for the words of a dictionary.
+     * @param dictionary to read the lengths of the words from.
+     * @param starts first position of each slot.
+     * @param sizes amount of words of each slot.
+     * @param budget maximum amount of characters of all words of an identifier.
+     * @throws IllegalStateException if no identifier fits into the budget.
+     */
+    LengthSampler(Dictionary dictionary, long[] starts, long[] sizes, int budget) {
+        int amount = starts.length;
+        this.slots = new Buckets[amount];
+        for (int i = 0; i < amount; i++) {
+            for (int j = 0; j < i && this.slots[i] == null; j++) {
+                if (starts[j] == starts[i] && sizes[j] == sizes[i]) {
+                    this.slots[i] = this.slots[j];
+                }
+            }
+            if (this.slots[i] == null) {
+                this.slots[i] = new Buckets(dictionary, starts[i], sizes[i], budget);
+            }
+        }
+        long longest = 0;
+        for (Buckets buckets : this.slots) {
+            longest += buckets.longest;
+        }
+        this.limits = longest > budget;
+        budget = (int) Math.min(budget, longest);
+        this.budget = budget;
+        this.ways = new double[amount + 1][budget + 1];
+        Arrays.fill(this.ways[amount], 1);
+        for (int i = amount - 1; i >= 0; i--) {
+            Buckets buckets = this.slots[i];
+            for (int total = 0; total <= budget; total++) {
+                double sum = 0;
+                for (int length = 0; length <= Math.min(total, buckets.maxLength()); length++) {
+                    sum += buckets.count(length) * this.ways[i + 1][total - length];
+                }
+                this.ways[i][total] = sum;
+            }
+        }
+        if (this.ways[0][budget] == 0) {
+            throw new IllegalStateException(String.format("no identifier fits into %d characters of words", budget));
+        }
+        this.exactWays = exactWays(this.slots, budget);
+        long total = this.exactWays == null ? 1 : this.exactWays[0][budget];
+        this.threshold = Long.remainderUnsigned(-total, total);
+    }
+
+    private static long[][] exactWays(Buckets[] slots, int budget) {
+        long[][] ways = new long[slots.length + 1][budget + 1];
+        Arrays.fill(ways[slots.length], 1);
+        try {
+            for (int i = slots.length - 1; i >= 0; i--) {
+                for (int total = 0; total <= budget; total++) {
+                    long sum = 0;
+                    for (int length = 0; length <= Math.min(total, slots[i].maxLength()); length++) {
+                        long completions = ways[i + 1][total - length];
+                        sum = Math.addExact(sum, Math.multiplyExact(slots[i].count(length), completions));
+                    }
+                    ways[i][total] = sum;
+                }
+            }
+        } catch (ArithmeticException exceeding) {
+            return null;
+        }
+        return ways;
+    }
+
+    /**
+     * Whether the maximum length excludes any identifier, otherwise identifiers are drawn as without a maximum length.
+     * @return whether the longest words of all slots together exceed the maximum length.
+     */
+    boolean limits() {
+        return this.limits;
+    }
+
+    /**
+     * Amount of identifiers within the maximum length.
+     * @return amount of combinations, rounded beyond 2^53 and limited to {@link Long#MAX_VALUE}.
+     */
+    long combinations() {
+        if (this.exactWays != null) {
+            return this.exactWays[0][this.budget];
+        }
+        return (long) Math.min(this.ways[0][this.budget], Long.MAX_VALUE);
+    }
+
+    /**
+     * Draws the first word of an identifier within the maximum length.
+     * @param random to draw from.
+     * @return position in the dictionary.
+     */
+    @Override
+    public long next(RandomSource random) {
+        return draw(random, 0, this.budget);
+    }
+
+    /**
+     * Draws the words of an identifier within the maximum length.
+     * @param random to draw from.
+     * @param positions to be filled.
+     * @param offset of the first position to fill.
+     */
+    @Override
+    public void fill(RandomSource random, long[] positions, int offset) {
+        if (this.exactWays != null) {
+            decode(random, positions, offset);
+            return;
+        }
+        int remaining = this.budget;
+        for (int i = 0; i < this.slots.length; i++) {
+            long position = draw(random, i, remaining);
+            positions[offset + i] = position;
+            remaining -= this.slots[i].lengthOf(position);
+        }
+    }
+
+    /**
+     * Draws a uniform number below the amount of identifiers and decodes the words of the identifier it counts.
+     */
+    private void decode(RandomSource random, long[] positions, int offset) {
+        int remaining = this.budget;
+        long total = this.exactWays[0][remaining];
+        long value = random.nextLong();
+        while (Long.compareUnsigned(value * total, this.threshold) < 0) {
+            value = random.nextLong();
+        }
+        long index = PositionSampler.multiplyHigh(value, total);
+        for (int i = 0; i < this.slots.length; i++) {
+            Buckets buckets = this.slots[i];
+            for (int length = 0; ; length++) {
+                long completions = this.exactWays[i + 1][remaining - length];
+                long block = buckets.count(length) * completions;
+                if (index < block) {
+                    positions[offset + i] = buckets.word(length, (int) (index / completions));
+                    index %= completions;
+                    remaining -= length;
+                    break;
+                }
+                index -= block;
+            }
+        }
+    }
+
+    /**
+     * Draws a word of a slot that leaves enough characters to complete the identifier.
+     */
+    private long draw(RandomSource random, int slot, int remaining) {
+        Buckets buckets = this.slots[slot];
+        double target = (random.nextLong() >>> 11) * 0x1.0p-53 * this.ways[slot][remaining];
+        int chosen = -1;
+        for (int length = 0; length <= Math.min(remaining, buckets.maxLength()); length++) {
+            double weight = buckets.count(length) * this.ways[slot + 1][remaining - length];
+            if (weight > 0) {
+                chosen = length;
+                if (target < weight) {
+                    break;
+                }
+                target -= weight;
+            }
+        }
+        return buckets.draw(random, chosen);
+    }
+
+    /** Positions of the words of a slot ordered by the length of their words. */
+    private static final class Buckets {
+
+        /** Positions ordered by length. */
+        private final int[] positions;
+
+        /** Index of the first position of each length, followed by the amount of positions. */
+        private final int[] starts;
+
+        /** Leftovers below which drawing a word of each length is biased, unsigned. */
+        private final long[] thresholds;
+
+        /** First position of the slot. */
+        private final long first;
+
+        /** Length of the word at each position of the slot, limited to the budget plus one. */
+        private final int[] lengths;
+
+        /** Length of the longest word of the slot. */
+        private final int longest;
+
+        /** Longest length of words that may fit. */
+        private final int maxLength;
+
+        private Buckets(Dictionary dictionary, long first, long size, int budget) {
+            int count = Math.toIntExact(size);
+            this.first = first;
+            this.lengths = new int[count];
+            long[] chunk = new long[Math.min(count, CHUNK_SIZE)];
+            String[] words = new String[chunk.length];
+            for (int from = 0; from < count; from += chunk.length) {
+                int amount = Math.min(chunk.length, count - from);
+                if (amount < chunk.length) {
+                    chunk = new long[amount];
+                    words = new String[amount];
+                }
+                for (int i = 0; i < amount; i++) {
+                    chunk[i] = first + from + i;
+                }
+                dictionary.readWords(chunk, words);
+                for (int i = 0; i < amount; i++) {
+                    this.lengths[from + i] = words[i].length();
+                }
+            }
+            this.longest = Arrays.stream(this.lengths).max().orElse(0);
+            this.maxLength = Math.min(this.longest, budget);
+            int[] counts = new int[this.maxLength + 2];
+            for (int i = 0; i < count; i++) {
+                this.lengths[i] = Math.min(this.lengths[i], this.maxLength + 1); // words too long never fit.
+                counts[this.lengths[i]]++;
+            }
+            this.starts = new int[counts.length + 1];
+            for (int length = 0; length < counts.length; length++) {
+                this.starts[length + 1] = this.starts[length] + counts[length];
+            }
+            this.positions = new int[count];
+            int[] next = Arrays.copyOf(this.starts, counts.length);
+            for (int i = 0; i < count; i++) {
+                this.positions[next[this.lengths[i]]++] = i;
+            }
+            this.thresholds = new long[counts.length];
+            for (int length = 0; length < counts.length; length++) {
+                long bound = Math.max(1, counts[length]);
+                this.thresholds[length] = Long.remainderUnsigned(-bound, bound);
+            }
+        }
+
+        /** Longest length of words that may fit, longer words are counted as one more and never fit. */
+        int maxLength() {
+            return this.maxLength;
+        }
+
+        int count(int length) {
+            return this.starts[length + 1] - this.starts[length];
+        }
+
+        int lengthOf(long position) {
+            return this.lengths[(int) (position - this.first)];
+        }
+
+        /** Word of the length by its index among the words of the length. */
+        long word(int length, int index) {
+            return this.first + this.positions[this.starts[length] + index];
+        }
+
+        /** Draws a uniform word of the length. */
+        long draw(RandomSource random, int length) {
+            long bound = count(length);
+            while (true) {
+                long value = random.nextLong();
+                if (Long.compareUnsigned(value * bound, this.thresholds[length]) >= 0) {
+                    int index = this.starts[length] + (int) PositionSampler.multiplyHigh(value, bound);
+                    return this.first + this.positions[index];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.devnsi.random;
+
+import java.util.Arrays;
+
+/**
+ * Set of non-negative {@code long} values with open addressing, requiring about 11 to 22 bytes per value.
+ * <p>
+ * Not thread-safe.
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] table = newTable(INITIAL_CAPACITY);
+    private int size;
+
+    private static long[] newTable(int capacity) {
+        long[] table = new long[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    /**
+     * Adds a value if not yet contained.
+     * @param value to add, not negative.
+     * @return whether the value was added.
+     */
+    boolean add(long value) {
+        if (insert(this.table, value)) {
+            this.size++;
+            if (this.size > this.table.length - (this.table.length >>> 2)) {
+                grow();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int slot = (int) mix(value) & mask;
+        while (table[slot] != EMPTY) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        return true;
+    }
+
+    private void grow() {
+        if (this.table.length == 1 << 30) {
+            throw new IllegalStateException("set exceeds maximum capacity");
+        }
+        long[] grown = newTable(this.table.length * 2);
+        for (long value : this.table) {
+            if (value != EMPTY) {
+                insert(grown, value);
+            }
+        }
+        this.table = grown;
+    }
+
+    /** Spreads the bits of the value (finalizer of MurmurHash3). */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
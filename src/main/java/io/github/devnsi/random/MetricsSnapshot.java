@@ -0,0 +1,103 @@
+package io.github.devnsi.random;
+
+/**
+ * Metrics of a generator at a point in time.
+ * <p>
+ * Immutable and thread-safe.
+ * @see GeneratorMetrics#snapshot()
+ */
+public final class MetricsSnapshot {
+
+    private final long ids;
+    private final long calls;
+    private final long batches;
+    private final long dictionaryNanos;
+    private final long combinations;
+    private final LatencySnapshot nextLatency;
+    private final LatencySnapshot batchLatency;
+
+    MetricsSnapshot(long ids, long calls, long batches, long dictionaryNanos, long combinations,
+                    LatencySnapshot nextLatency, LatencySnapshot batchLatency) {
+        this.ids = ids;
+        this.calls = calls;
+        this.batches = batches;
+        this.dictionaryNanos = dictionaryNanos;
+        this.combinations = combinations;
+        this.nextLatency = nextLatency;
+        this.batchLatency = batchLatency;
+    }
+
+    /**
+     * Amount of identifiers generated.
+     * @return identifiers.
+     */
+    public long getIds() {
+        return this.ids;
+    }
+
+    /**
+     * Amount of identifiers generated one at a time.
+     * @return calls of {@link RandomIdGen#next()} and {@code writeTo}.
+     */
+    public long getCalls() {
+        return this.calls;
+    }
+
+    /**
+     * Amount of batches generated with a single lookup in the dictionary.
+     * @return batches of up to 4096 identifiers.
+     */
+    public long getBatches() {
+        return this.batches;
+    }
+
+    /**
+     * Time spent reading the words of batches from the dictionary.
+     * @return nanoseconds.
+     */
+    public long getDictionaryNanos() {
+        return this.dictionaryNanos;
+    }
+
+    /**
+     * Amount of distinct identifiers of the generator.
+     * @return combinations, or {@link Long#MAX_VALUE} if exceeding it.
+     */
+    public long getCombinations() {
+        return this.combinations;
+    }
+
+    /**
+     * Durations of generating a single identifier.
+     * @return distribution.
+     */
+    public LatencySnapshot getNextLatency() {
+        return this.nextLatency;
+    }
+
+    /**
+     * Durations of generating a batch, including the dictionary lookup.
+     * @return distribution.
+     */
+    public LatencySnapshot getBatchLatency() {
+        return this.batchLatency;
+    }
+
+    /**
+     * Probability that the identifiers generated so far contain a repetition, if drawn independently.
+     * <p>
+     * Approximated by {@code 1 - e^(-n(n-1)/2d)} for n identifiers out of d combinations (birthday problem), it reaches
+     * 50% at about {@code 1.18 * sqrt(d)} identifiers. Unique and sequential generators never repeat identifiers.
+     * @return probability between 0 and 1.
+     */
+    public double getCollisionProbability() {
+        return GeneratorMetrics.collisionProbability(this.ids, this.combinations);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ids=%d, calls=%d, batches=%d, dictionary=%dns, collision=%.3g, next=[%s], batch=[%s]",
+                this.ids, this.calls, this.batches, this.dictionaryNanos, getCollisionProbability(), this.nextLatency,
+                this.batchLatency);
+    }
+}
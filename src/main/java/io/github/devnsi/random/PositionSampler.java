@@ -0,0 +1,156 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * Uniform positions below a bound by multiplication instead of division, drawing several positions from each 64-bit
+ * random value.
+ * <p>
+ * A random value multiplied by the bound yields a position in its high 64 bits and the leftover fraction in its low 64
+ * bits, which is multiplied by the bound again for the next position. As long as the product of the bounds fits into 64
+ * bits, the positions are exactly uniform once the rare leftovers below {@code 2^64 mod product} are rejected and drawn
+ * again (Lemire, "Fast Random Integer Generation in an Interval", and Brackett-Rozinsky and Lemire, "Batched Ranged
+ * Random Integer Generation"). Each word may have its own bound and start, for dictionaries with a list of words per
+ * word of the identifier.
+ * <p>
+ * Immutable and thread-safe.
+ */
+final class PositionSampler implements WordSampler {
+
+    /** Exclusive upper bound of the positions of each word. */
+    private final long[] bounds;
+
+    /** Position added to the positions of each word. */
+    private final long[] starts;
+
+    /** End of each group of words drawn from a single random value (exclusive). */
+    private final int[] groups;
+
+    /** Leftovers below which the draw of each group is biased, unsigned. */
+    private final long[] thresholds;
+
+    /** Leftovers below which a single position of the first word is biased, unsigned. */
+    private final long boundThreshold;
+
+    /**
+     * Sampler for a fixed amount of positions.
+     * @param bound exclusive upper bound of positions, at least 1.
+     * @param amount of positions drawn together.
+     */
+    PositionSampler(long bound, int amount) {
+        this(filled(bound, amount), new long[amount]);
+    }
+
+    /**
+     * Sampler for a position of each word.
+     * @param bounds exclusive upper bound of the positions of each word, at least 1.
+     * @param starts position added to the positions of each word.
+     */
+    PositionSampler(long[] bounds, long[] starts) {
+        for (long bound : bounds) {
+            if (bound < 1) {
+                throw new IllegalStateException(String.format("cannot draw positions below %d", bound));
+            }
+        }
+        this.bounds = bounds;
+        this.starts = starts;
+        int[] groups = new int[bounds.length];
+        long[] thresholds = new long[bounds.length];
+        int count = 0;
+        for (int from = 0; from < bounds.length; count++) {
+            int to = from + 1;
+            long product = bounds[from];
+            while (to < bounds.length && Long.compareUnsigned(product, Long.divideUnsigned(-1L, bounds[to])) <= 0) {
+                product *= bounds[to];
+                to++;
+            }
+            groups[count] = to;
+            thresholds[count] = threshold(product);
+            from = to;
+        }
+        this.groups = Arrays.copyOf(groups, count);
+        this.thresholds = Arrays.copyOf(thresholds, count);
+        this.boundThreshold = bounds.length == 0 ? 0 : threshold(bounds[0]);
+    }
+
+    private static long[] filled(long bound, int amount) {
+        long[] bounds = new long[amount];
+        Arrays.fill(bounds, bound);
+        return bounds;
+    }
+
+    /**
+     * Amount of leftovers that would be mapped once more than others, being {@code 2^64 mod product}.
+     */
+    private static long threshold(long product) {
+        return Long.remainderUnsigned(-product, product);
+    }
+
+    /**
+     * Amount of positions drawn from the first random value.
+     * @return positions per {@link RandomSource#nextLong()}.
+     */
+    int perDraw() {
+        return this.groups.length == 0 ? 0 : this.groups[0];
+    }
+
+    /**
+     * Draws a single uniform position of the first word.
+     * @param random to draw from.
+     * @return position below the bound.
+     */
+    @Override
+    public long next(RandomSource random) {
+        long bound = this.bounds[0];
+        while (true) {
+            long value = random.nextLong();
+            if (Long.compareUnsigned(value * bound, this.boundThreshold) >= 0) {
+                return this.starts[0] + multiplyHigh(value, bound);
+            }
+        }
+    }
+
+    /**
+     * Draws independent uniform positions of all words.
+     * @param random to draw from.
+     * @param positions to be filled.
+     * @param offset of the first position to fill.
+     */
+    @Override
+    public void fill(RandomSource random, long[] positions, int offset) {
+        int from = 0;
+        for (int group = 0; group < this.groups.length; group++) {
+            int to = this.groups[group];
+            long leftover = split(random.nextLong(), positions, offset, from, to);
+            while (Long.compareUnsigned(leftover, this.thresholds[group]) < 0) {
+                leftover = split(random.nextLong(), positions, offset, from, to);
+            }
+            from = to;
+        }
+    }
+
+    private long split(long value, long[] positions, int offset, int from, int to) {
+        long leftover = value;
+        for (int i = from; i < to; i++) {
+            long bound = this.bounds[i];
+            positions[offset + i] = this.starts[i] + multiplyHigh(leftover, bound);
+            leftover *= bound;
+        }
+        return leftover;
+    }
+
+    /**
+     * High 64 bits of the unsigned 128-bit product, as {@code Math.unsignedMultiplyHigh} of later Java versions.
+     */
+    static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long t = x1 * y0 + (x0 * y0 >>> 32);
+        long w1 = (t & 0xFFFFFFFFL) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
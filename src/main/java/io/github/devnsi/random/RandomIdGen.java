@@ -1,24 +1,41 @@
 package io.github.devnsi.random;
 
+import io.github.devnsi.random.dictionary.Dictionaries;
 import io.github.devnsi.random.dictionary.Dictionary;
-import io.github.devnsi.random.dictionary.RandomWords;
+import io.github.devnsi.random.dictionary.EncodedDictionary;
+import io.github.devnsi.random.dictionary.ProcessedWords;
+import io.github.devnsi.random.dictionary.SlotWords;
+import io.github.devnsi.random.dictionary.WeightedDictionary;
+import io.github.devnsi.random.source.ConcurrentRandom;
+import io.github.devnsi.random.source.RandomSource;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link RandomIds} adds the lightweight capabilities to generate memorable identifiers.
  */
 public class RandomIdGen implements Supplier<String> {
 
+    /** Amount of identifiers generated with a single lookup in the dictionary. */
+    private static final int BATCH_SIZE = 4096;
+
     /** Delimiter by which words are concatenated to an identifier. */
     protected final String delimiter;
 
@@ -26,29 +43,56 @@ public class RandomIdGen implements Supplier<String> {
     protected final int amountParts;
 
     /** Random number generator to determine words. */
-    protected final Random random;
+    protected final RandomSource random;
 
     /** Dictionary from which to choose words from. */
     protected final Dictionary dictionary;
 
-    /** Post-processing on each individual word. */
-    protected Function<String, String> postProcessor = Function.identity();
+    /** Post-processing that leaves words unchanged. */
+    private static final Function<String, String> IDENTITY = Function.identity();
+
+    /** Words to read together with their post-processing, replaced as a whole to be read consistently. */
+    private volatile Lookup lookup;
+
+    /** Encoded delimiter to write identifiers as bytes. */
+    private final byte[] encodedDelimiter;
+
+    /** Positions in the dictionary, created on first use to not load the dictionary early. */
+    private volatile WordSampler sampler;
+
+    /** Maximum amount of characters of an identifier, 0 if unlimited. */
+    private volatile int maxLength;
+
+    /** Identifiers issued so far by their positions, if identifiers must be unique. */
+    private volatile LongHashSet issued;
+
+    /** Metrics of generated identifiers, or null if disabled. */
+    private volatile GeneratorMetrics metrics;
+
+    /** Reusable buffers of each thread to build an identifier. */
+    private final ThreadLocal<Buffers> buffers;
+
+    /** Whether a subclass overrides {@link #postProcess(String)}, the default of {@link #processesWords()}. */
+    private final boolean postProcessOverridden;
 
     /**
      * Generator for human-readable random identifiers.
+     * <p>
+     * Safe to be shared between threads, each thread draws from its own random number generator. The words are shared
+     * with all generators using the default words, see {@link Dictionaries}.
      */
     public RandomIdGen() {
-        this("-", 3, ThreadLocalRandom.current());
+        this("-", 3, new ConcurrentRandom());
     }
 
     /**
      * Generator for human-readable random identifiers.
      * @param delimiter to be used to concatenate words.
      * @param amountParts to be concatenated (increasing entropy).
-     * @param random to create reproducable results (if seeded invariably).
+     * @param random to create reproducable results (if seeded invariably), {@link ConcurrentRandom} for many threads.
      */
     public RandomIdGen(String delimiter, int amountParts, Random random) {
-        this(delimiter, amountParts, random, new RandomWords());
+        this(delimiter, amountParts, random, Dictionaries.randomWords());
     }
 
     /**
@@ -59,10 +103,73 @@ public class RandomIdGen implements Supplier<String> {
      * @param dictionary from which to build the identifier.
      */
     public RandomIdGen(String delimiter, int amountParts, Random random, Dictionary dictionary) {
+        this(delimiter, amountParts, RandomSource.of(random), dictionary);
+    }
+
+    /**
+     * Generator for human-readable random identifiers.
+     * @param delimiter to be used to concatenate words.
+     * @param amountParts to be concatenated (increasing entropy).
+     * @param random to create reproducable results (if seeded invariably), only shared between threads if thread-safe.
+     * @see RandomSource#perThread(RandomSource)
+     */
+    public RandomIdGen(String delimiter, int amountParts, RandomSource random) {
+        this(delimiter, amountParts, random, Dictionaries.randomWords());
+    }
+
+    /**
+     * Generator for human-readable random identifiers.
+     * @param delimiter to be used to concatenate words.
+     * @param amountParts to be concatenated (increasing entropy).
+     * @param random to create reproducable results (if seeded invariably), only shared between threads if thread-safe.
+     * @param dictionary from which to build the identifier.
+     */
+    public RandomIdGen(String delimiter, int amountParts, RandomSource random, Dictionary dictionary) {
+        if (dictionary instanceof SlotWords && ((SlotWords) dictionary).slots() != amountParts) {
+            int slots = ((SlotWords) dictionary).slots();
+            throw new IllegalArgumentException(String.format("%d words for %d slots", amountParts, slots));
+        }
         this.delimiter = delimiter;
         this.amountParts = amountParts;
         this.random = random;
         this.dictionary = dictionary;
+        this.lookup = new Lookup(dictionary, IDENTITY);
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(amountParts));
+        this.encodedDelimiter = delimiter.getBytes(StandardCharsets.UTF_8);
+        this.postProcessOverridden = overridesPostProcess(getClass());
+    }
+
+    /** Whether a class up to this class declares {@link #postProcess(String)}, overloads are not matched. */
+    private static boolean overridesPostProcess(Class<?> type) {
+        for (Class<?> current = type; current != RandomIdGen.class; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("postProcess", String.class);
+                return true;
+            } catch (NoSuchMethodException exception) {
+                // continue with the superclass.
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generator for human-readable random identifiers with a word list for each word.
+     * @param delimiter to be used to concatenate words.
+     * @param random to create reproducable results (if seeded invariably).
+     * @param slots from which to draw each word of the identifier.
+     */
+    public RandomIdGen(String delimiter, Random random, SlotWords slots) {
+        this(delimiter, slots.slots(), random, slots);
+    }
+
+    /**
+     * Generator for human-readable random identifiers with a word list for each word.
+     * @param delimiter to be used to concatenate words.
+     * @param random to create reproducable results (if seeded invariably), only shared between threads if thread-safe.
+     * @param slots from which to draw each word of the identifier.
+     */
+    public RandomIdGen(String delimiter, RandomSource random, SlotWords slots) {
+        this(delimiter, slots.slots(), random, slots);
     }
 
     /**
@@ -76,10 +183,58 @@ public class RandomIdGen implements Supplier<String> {
 
     /**
      * <b>Infinite</b> stream of random identifiers.
+     * <p>
+     * Identifiers are generated in chunks, the stream can be split for parallel processing.
      * @return infinite stream, use with {@link Stream#limit(long)} or another terminal operation.
      */
     public Stream<String> stream() {
-        return Stream.generate(this::next);
+        return StreamSupport.stream(new IdSpliterator(this, this.random, BATCH_SIZE, -1), false);
+    }
+
+    /**
+     * Stream of a known amount of random identifiers.
+     * <p>
+     * Identifiers are generated in chunks, the stream is sized and split evenly for parallel processing.
+     * @param amount of identifiers in the stream.
+     * @return finite stream.
+     */
+    public Stream<String> stream(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative: " + amount);
+        }
+        return StreamSupport.stream(new IdSpliterator(this, this.random, BATCH_SIZE, amount), false);
+    }
+
+    /**
+     * Writes identifiers line by line, keeping only a single chunk of identifiers in memory.
+     * @param writer to write the identifiers to, which is flushed but not closed.
+     * @param amount of identifiers to write.
+     * @throws IOException while writing.
+     */
+    public void export(Writer writer, long amount) throws IOException {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative: " + amount);
+        }
+        String[] chunk = new String[(int) Math.min(amount, BATCH_SIZE)];
+        for (long written = 0; written < amount; written += chunk.length) {
+            int size = (int) Math.min(chunk.length, amount - written);
+            nextBatch(this.random, chunk, 0, size);
+            for (int i = 0; i < size; i++) {
+                writer.write(chunk[i]);
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes identifiers line by line encoded in UTF-8, keeping only a single chunk of identifiers in memory.
+     * @param output to write the identifiers to, which is flushed but not closed.
+     * @param amount of identifiers to write.
+     * @throws IOException while writing.
+     */
+    public void export(OutputStream output, long amount) throws IOException {
+        export(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)), amount);
     }
 
     /**
@@ -87,13 +242,139 @@ public class RandomIdGen implements Supplier<String> {
      * @return generated identifier.
      */
     public String next() {
-        Long[] randoms = IntStream.range(0, this.amountParts)
-                .mapToObj(value -> randomValue())
-                .toArray(Long[]::new);
-        String word = this.dictionary.readWords(randoms).stream()
-                .map(this::postProcess)
-                .collect(Collectors.joining(this.delimiter));
-        return postProcess(word);
+        GeneratorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return nextId();
+        }
+        long start = metrics.startNext();
+        String id = nextId();
+        metrics.recordNext(start);
+        return id;
+    }
+
+    private String nextId() {
+        Buffers buffers = this.buffers.get();
+        Lookup lookup = this.lookup;
+        randomValues(this.random, buffers.positions, 0);
+        lookup.dictionary.readWords(buffers.positions, buffers.words);
+
+        StringBuilder builder = buffers.builder;
+        builder.setLength(0);
+        for (int i = 0; i < this.amountParts; i++) {
+            if (i > 0) {
+                builder.append(this.delimiter);
+            }
+            builder.append(postProcess(lookup.postProcessor.apply(buffers.words[i])));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Generates a new identifier encoded in UTF-8 into an array.
+     * <p>
+     * Words of an {@link EncodedDictionary} are copied as encoded, without creating any string, unless words are
+     * post-processed.
+     * @param target to write the identifier to.
+     * @param offset in target at which to write the identifier.
+     * @return amount of bytes written.
+     * @throws IndexOutOfBoundsException if the identifier does not fit, in which case it is discarded.
+     */
+    public int writeTo(byte[] target, int offset) {
+        GeneratorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return writeId(target, offset);
+        }
+        long start = metrics.startNext();
+        int length = writeId(target, offset);
+        metrics.recordNext(start);
+        return length;
+    }
+
+    private int writeId(byte[] target, int offset) {
+        EncodedDictionary encoded = encodedDictionary(this.lookup);
+        if (encoded == null) {
+            byte[] id = nextId().getBytes(StandardCharsets.UTF_8);
+            checkSpace(id.length, target.length - offset, offset);
+            System.arraycopy(id, 0, target, offset, id.length);
+            return id.length;
+        }
+        long[] positions = this.buffers.get().positions;
+        randomValues(this.random, positions, 0);
+        int length = encodedLength(encoded, positions);
+        checkSpace(length, target.length - offset, offset);
+        int at = offset;
+        for (int i = 0; i < this.amountParts; i++) {
+            if (i > 0) {
+                System.arraycopy(this.encodedDelimiter, 0, target, at, this.encodedDelimiter.length);
+                at += this.encodedDelimiter.length;
+            }
+            at += encoded.writeWord(positions[i], target, at);
+        }
+        return length;
+    }
+
+    /**
+     * Generates a new identifier encoded in UTF-8 into a buffer, advancing the position of the buffer.
+     * <p>
+     * Words of an {@link EncodedDictionary} are copied as encoded, without creating any string, unless words are
+     * post-processed.
+     * @param target to write the identifier to.
+     * @return amount of bytes written.
+     * @throws BufferOverflowException if the identifier does not fit, in which case it is discarded.
+     */
+    public int writeTo(ByteBuffer target) {
+        GeneratorMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return writeId(target);
+        }
+        long start = metrics.startNext();
+        int length = writeId(target);
+        metrics.recordNext(start);
+        return length;
+    }
+
+    private int writeId(ByteBuffer target) {
+        EncodedDictionary encoded = encodedDictionary(this.lookup);
+        if (encoded == null) {
+            byte[] id = nextId().getBytes(StandardCharsets.UTF_8);
+            target.put(id);
+            return id.length;
+        }
+        long[] positions = this.buffers.get().positions;
+        randomValues(this.random, positions, 0);
+        int length = encodedLength(encoded, positions);
+        if (length > target.remaining()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < this.amountParts; i++) {
+            if (i > 0) {
+                target.put(this.encodedDelimiter);
+            }
+            encoded.writeWord(positions[i], target);
+        }
+        return length;
+    }
+
+    /** Dictionary to copy encoded words from, or null if words must be decoded. */
+    private EncodedDictionary encodedDictionary(Lookup lookup) {
+        boolean processed = lookup.postProcessor != IDENTITY || processesWords();
+        Dictionary dictionary = lookup.dictionary;
+        return !processed && dictionary instanceof EncodedDictionary ? (EncodedDictionary) dictionary : null;
+    }
+
+    private int encodedLength(EncodedDictionary encoded, long[] positions) {
+        int length = this.encodedDelimiter.length * (this.amountParts - 1);
+        for (int i = 0; i < this.amountParts; i++) {
+            length += encoded.encodedLength(positions[i]);
+        }
+        return length;
+    }
+
+    private static void checkSpace(int length, int space, int offset) {
+        if (offset < 0 || length > space) {
+            String message = String.format("identifier of %d bytes does not fit at offset %d", length, offset);
+            throw new IndexOutOfBoundsException(message);
+        }
     }
 
     /**
@@ -101,55 +382,475 @@ public class RandomIdGen implements Supplier<String> {
      * @return generated identifiers.
      */
     public List<String> next(int amount) {
-        Long[] randoms = IntStream.range(0, this.amountParts * amount)
-                .mapToObj(value -> randomValue())
-                .toArray(Long[]::new);
-        List<String> words = this.dictionary.readWords(randoms).stream()
-                .map(this::postProcess)
-                .collect(Collectors.toList());
+        String[] results = new String[amount];
+        for (int from = 0; from < amount; from += BATCH_SIZE) {
+            nextBatch(this.random, results, from, Math.min(amount, from + BATCH_SIZE));
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Generates new batch of identifiers, optionally in parallel.
+     * <p>
+     * Parallel generation splits the batch into fixed chunks, which draw from their own generators split in order from
+     * the random of this generator. Results are therefore reproducible with a seeded random regardless of the amount
+     * of threads, though different from sequential generation.
+     * @param amount of identifiers that will be generated.
+     * @param parallel whether to generate on the common fork-join pool.
+     * @return generated identifiers.
+     */
+    public List<String> next(int amount, boolean parallel) {
+        if (!parallel) {
+            return next(amount);
+        }
+        int batches = (amount + BATCH_SIZE - 1) / BATCH_SIZE;
+        RandomSource[] randoms = new RandomSource[batches];
+        for (int i = 0; i < batches; i++) {
+            randoms[i] = this.random.split();
+        }
+        String[] results = new String[amount];
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            int from = batch * BATCH_SIZE;
+            nextBatch(randoms[batch], results, from, Math.min(amount, from + BATCH_SIZE));
+        });
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Generates identifiers with a single lookup in the dictionary.
+     * @param random to determine the words.
+     * @param results to be filled with identifiers.
+     * @param from first index in results (inclusive).
+     * @param to last index in results (exclusive).
+     */
+    protected void nextBatch(RandomSource random, String[] results, int from, int to) {
+        GeneratorMetrics metrics = this.metrics;
+        long start = metrics == null ? 0 : System.nanoTime();
+        int amount = to - from;
+        long[] positions = new long[Math.multiplyExact(amount, this.amountParts)];
+        for (int i = 0; i < amount; i++) {
+            randomValues(random, positions, i * this.amountParts);
+        }
+        String[] words = new String[positions.length];
+        Lookup lookup = this.lookup;
+        long read = metrics == null ? 0 : System.nanoTime();
+        lookup.dictionary.readWords(positions, words);
+        long dictionaryNanos = metrics == null ? 0 : System.nanoTime() - read;
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < amount; i++) {
+            builder.setLength(0);
+            for (int j = 0; j < this.amountParts; j++) {
+                if (j > 0) {
+                    builder.append(this.delimiter);
+                }
+                builder.append(postProcess(lookup.postProcessor.apply(words[i * this.amountParts + j])));
+            }
+            results[from + i] = builder.toString();
+        }
+        if (metrics != null) {
+            metrics.recordBatch(amount, System.nanoTime() - start, dictionaryNanos);
+        }
+    }
+
+    /**
+     * Determines the positions of the words of the next identifier.
+     * <p>
+     * Positions are exactly uniform and drawn together, several from each random {@code long} as far as the size of the
+     * dictionary allows. Positions of a {@link WeightedDictionary} are drawn in proportion to the weights of the words
+     * instead, one from each random {@code long}.
+     * @param random to determine the positions.
+     * @param positions to be filled with random positions in dictionary.
+     * @param offset of the first of {@link #amountParts} positions to fill.
+     */
+    protected void randomValues(RandomSource random, long[] positions, int offset) {
+        LongHashSet issuedIds = this.issued;
+        WordSampler sampler = sampler();
+        do {
+            sampler.fill(random, positions, offset);
+        } while (issuedIds != null && !issue(issuedIds, positions, offset));
+    }
+
+    /**
+     * Registers the identifier as issued.
+     * @return whether the identifier was not issued before.
+     */
+    private boolean issue(LongHashSet issuedIds, long[] positions, int offset) {
+        long key = combinationOf(positions, offset);
+        synchronized (issuedIds) {
+            if (issuedIds.size() >= combinations()) {
+                throw new IllegalStateException("all " + issuedIds.size() + " identifiers have been issued");
+            }
+            return issuedIds.add(key);
+        }
+    }
 
-        return buildResults(amount, words);
+    /**
+     * Determines the position of the next random word within the dictionary, exactly uniform unless weighted.
+     * @param random to determine the position.
+     * @return random position in dictionary.
+     */
+    protected long randomValue(RandomSource random) {
+        return sampler().next(random);
     }
 
     /**
      * Determines the position of the next random word within the dictionary.
      * @return random position in dictionary.
+     * @deprecated use {@link #randomValue(RandomSource)}, no longer called, as positions are drawn by
+     *             {@link #randomValues(RandomSource, long[], int)}.
      */
+    @Deprecated
     protected long randomValue() {
-        long pos = this.random.nextLong();
-        return Math.abs(pos) % this.dictionary.size();
+        return randomValue(this.random);
     }
 
+    /**
+     * Joins words to identifiers.
+     * @param amount of identifiers.
+     * @param words of all identifiers, {@link #amountParts} after another.
+     * @return identifiers.
+     * @deprecated no longer called, as identifiers are built by {@link #nextBatch(RandomSource, String[], int, int)}.
+     */
+    @Deprecated
     protected List<String> buildResults(int amount, List<String> words) {
         List<String> results = new ArrayList<>(amount);
         for (int i = 0; i < amount; i++) {
-            String result = partitionByIndex(words, i);
-            results.add(result);
+            results.add(partitionByIndex(words, i));
         }
         return results;
     }
 
+    /**
+     * Joins the words of an identifier.
+     * @param words of all identifiers, {@link #amountParts} after another.
+     * @param partitionIndex of the identifier.
+     * @return identifier.
+     * @deprecated no longer called, as identifiers are built by {@link #nextBatch(RandomSource, String[], int, int)}.
+     */
+    @Deprecated
     protected String partitionByIndex(List<String> words, int partitionIndex) {
         int partitionStart = partitionIndex * this.amountParts;
-        int partitionEnd = partitionStart + this.amountParts;
-        List<String> partition = words.subList(partitionStart, partitionEnd);
-        return String.join(this.delimiter, partition);
+        return String.join(this.delimiter, words.subList(partitionStart, partitionStart + this.amountParts));
+    }
+
+    private WordSampler sampler() {
+        WordSampler sampler = this.sampler;
+        if (sampler == null) {
+            sampler = newSampler(this.lookup.dictionary, this.maxLength);
+            this.sampler = sampler;
+        }
+        return sampler;
+    }
+
+    private WordSampler newSampler(Dictionary lookup, int maxLength) {
+        long[] bounds = new long[this.amountParts];
+        long[] starts = new long[this.amountParts];
+        for (int i = 0; i < this.amountParts; i++) {
+            bounds[i] = slotSize(i);
+            starts[i] = slotStart(i);
+        }
+        if (maxLength > 0) {
+            int budget = maxLength - this.delimiter.length() * (this.amountParts - 1);
+            if (budget < 0) {
+                int words = this.amountParts;
+                String message = String.format("delimiters of %d words exceed %d characters", words, maxLength);
+                throw new IllegalStateException(message);
+            }
+            LengthSampler sampler = new LengthSampler(lookup, starts, bounds, budget);
+            if (sampler.limits()) {
+                return sampler;
+            }
+        }
+        if (this.dictionary instanceof WeightedDictionary) {
+            return new AliasSampler((WeightedDictionary) this.dictionary, this.amountParts);
+        }
+        return new PositionSampler(bounds, starts);
+    }
+
+    /**
+     * Determines the positions of the words of an identifier.
+     * <p>
+     * Words are looked up as contained in the dictionary, or as processed by a pure post-processor, each within its
+     * slot of {@link SlotWords}. Identifiers of words post-processed otherwise can only be parsed if the post-processed
+     * words are contained as well.
+     * @param id generated with the same delimiter and dictionary.
+     * @return positions of the words in the dictionary.
+     * @throws IllegalArgumentException if the identifier is malformed or has words not contained in the dictionary.
+     * @throws UnsupportedOperationException if the words of identifiers are not delimited.
+     */
+    public long[] parse(String id) {
+        if (!parsable()) {
+            throw new UnsupportedOperationException("identifiers without delimiter cannot be parsed");
+        }
+        long[] positions = tryParse(id);
+        if (positions == null) {
+            throw new IllegalArgumentException("not a valid identifier: " + id);
+        }
+        return positions;
+    }
+
+    /**
+     * Validates an identifier.
+     * @param id to check.
+     * @return whether the identifier consists of the amount of words of the dictionary with the delimiter, always
+     *         false if the words of identifiers are not delimited, as they cannot be parsed.
+     * @see #parse(String)
+     */
+    public boolean isValid(String id) {
+        return parsable() && tryParse(id) != null;
+    }
+
+    private boolean parsable() {
+        return !this.delimiter.isEmpty() || this.amountParts == 1;
+    }
+
+    private long[] tryParse(String id) {
+        long[] positions = new long[this.amountParts];
+        int start = 0;
+        for (int i = 0; i < this.amountParts; i++) {
+            int end = i == this.amountParts - 1 ? id.length() : id.indexOf(this.delimiter, start);
+            if (end < 0) {
+                return null;
+            }
+            String word = id.substring(start, end);
+            Dictionary lookup = this.lookup.dictionary;
+            positions[i] = lookup instanceof SlotWords ? ((SlotWords) lookup).indexOf(i, word) : lookup.indexOf(word);
+            if (positions[i] < 0) {
+                return null;
+            }
+            start = end + this.delimiter.length();
+        }
+        return positions;
     }
 
     /**
-     * Post-processing on each individual word to handle casing, encoding, ...
+     * Amount of distinct identifiers, which is the amount of words to the power of words per identifier, or the product
+     * of the amount of words of each slot. Only identifiers within the maximum length are counted, if limited, and
+     * only words with a positive weight of a {@link WeightedDictionary}, as the others are never drawn.
+     * @return amount of combinations, or {@link Long#MAX_VALUE} if exceeding it.
+     */
+    public long combinations() {
+        WordSampler sampler = sampler();
+        if (sampler instanceof LengthSampler) {
+            return ((LengthSampler) sampler).combinations();
+        }
+        boolean weighted = this.dictionary instanceof WeightedDictionary;
+        long support = weighted ? ((AliasSampler) sampler).support() : 0;
+        long combinations = 1;
+        for (int i = 0; i < this.amountParts; i++) {
+            long size = weighted ? support : slotSize(i);
+            if (combinations > Long.MAX_VALUE / size) {
+                return Long.MAX_VALUE;
+            }
+            combinations *= size;
+        }
+        return combinations;
+    }
+
+    /**
+     * Combination of the words of an identifier, counting all combinations in order of the positions of the words.
+     * @param positions of the words in the dictionary.
+     * @param offset of the first of {@link #amountParts} positions.
+     * @return combination between 0 and {@link #combinations()}-1.
+     */
+    protected long combinationOf(long[] positions, int offset) {
+        long combination = 0;
+        for (int i = 0; i < this.amountParts; i++) {
+            combination = combination * slotSize(i) + positions[offset + i] - slotStart(i);
+        }
+        return combination;
+    }
+
+    /**
+     * Positions of the words of a combination, inverse to {@link #combinationOf(long[], int)}.
+     * @param combination between 0 and {@link #combinations()}-1.
+     * @param positions to be filled with positions in dictionary.
+     * @param offset of the first of {@link #amountParts} positions to fill.
+     */
+    protected void positionsOf(long combination, long[] positions, int offset) {
+        long remaining = combination;
+        for (int i = this.amountParts - 1; i >= 0; i--) {
+            long size = slotSize(i);
+            positions[offset + i] = slotStart(i) + remaining % size;
+            remaining /= size;
+        }
+    }
+
+    private long slotSize(int slot) {
+        Dictionary dictionary = this.dictionary;
+        return dictionary instanceof SlotWords ? ((SlotWords) dictionary).slotSize(slot) : dictionary.size();
+    }
+
+    private long slotStart(int slot) {
+        Dictionary dictionary = this.dictionary;
+        return dictionary instanceof SlotWords ? ((SlotWords) dictionary).slotStart(slot) : 0;
+    }
+
+    /**
+     * Set whether identifiers are never repeated during the lifetime of this generator.
+     * <p>
+     * Issued identifiers are tracked by the positions of their words in about 11 to 22 bytes each. Draws of already
+     * issued identifiers are repeated, which becomes slower as the combinations are used up. Identifiers are unique by
+     * their positions, a post-processor or dictionary with duplicates may still produce equal identifiers.
+     * @param unique whether to track issued identifiers, disabling forgets the issued identifiers.
+     * @throws IllegalStateException if the combinations exceed the range of {@code long}.
+     */
+    public void setUnique(boolean unique) {
+        if (unique && combinations() == Long.MAX_VALUE) {
+            throw new IllegalStateException("combinations of " + this.amountParts + " words exceed 64 bits");
+        }
+        if (!unique) {
+            this.issued = null;
+        } else if (this.issued == null) {
+            this.issued = new LongHashSet();
+        }
+    }
+
+    /**
+     * Limits the length of identifiers, each identifier is drawn uniformly among all identifiers within the length.
+     * <p>
+     * The words of the dictionary are grouped by length once, so identifiers are drawn in a single pass instead of
+     * being generated again until one fits. Lengths are counted in characters as {@link String#length()}, of words as
+     * looked up, which includes a pure post-processor but not others. Weighted dictionaries are not supported. The
+     * length cannot change while identifiers are unique, as the issued identifiers would no longer match the
+     * combinations within the length. A length that no identifier exceeds does not limit identifiers, which are then
+     * drawn as without a maximum length.
+     * @param maxLength maximum amount of characters of an identifier, 0 for no limit.
+     * @throws IllegalArgumentException if the length is negative.
+     * @throws IllegalStateException if no identifier fits into the length, the dictionary is weighted, or identifiers
+     *                               are unique, in which cases the previous length is kept.
+     */
+    public void setMaxLength(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("max length must not be negative: " + maxLength);
+        }
+        if (maxLength > 0 && this.dictionary instanceof WeightedDictionary) {
+            throw new IllegalStateException("max length is not supported for weighted dictionaries");
+        }
+        if (this.issued != null && maxLength != this.maxLength) {
+            throw new IllegalStateException("max length cannot change while identifiers are unique");
+        }
+        WordSampler sampler = newSampler(this.lookup.dictionary, maxLength);
+        this.maxLength = maxLength;
+        this.sampler = sampler;
+    }
+
+    /**
+     * Starts recording metrics of generated identifiers, see {@link GeneratorMetrics}.
+     * <p>
+     * Recording costs a striped counter per identifier generated one at a time, a sample of which is timed, and a few
+     * reads of the clock per batch. Disabled metrics cost a single read of a field.
+     * @return new metrics, replacing metrics recorded so far.
+     * @see GeneratorMetrics#register(String)
+     */
+    public GeneratorMetrics enableMetrics() {
+        GeneratorMetrics metrics = new GeneratorMetrics(combinations());
+        this.metrics = metrics;
+        return metrics;
+    }
+
+    /**
+     * Stops recording metrics, which are kept by their holders and remain registered.
+     */
+    public void disableMetrics() {
+        this.metrics = null;
+    }
+
+    /**
+     * Metrics of generated identifiers.
+     * @return metrics, or null if disabled.
+     */
+    public GeneratorMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Post-processing on each individual word to handle casing, encoding, ..., after the post-processor set with
+     * {@link #setPostProcessor(UnaryOperator)}, if any.
      * @param word that was looked up.
-     * @return modified word.
+     * @return modified word, by default the word itself.
      */
     protected String postProcess(String word) {
-        return this.postProcessor.apply(word);
+        return word;
     }
 
     /**
-     * Set post-processor for each individual word contained in the identifier.
+     * Whether {@link #postProcess(String)} changes words, which requires decoding words instead of copying encoded
+     * words. A post-processor set with {@link #setPostProcessor(UnaryOperator)} is accounted for regardless.
+     * <p>
+     * Subclasses overriding {@link #postProcess(String)} only to observe words may override this to return false.
+     * @return whether words are post-processed by a subclass, by default whether a subclass overrides
+     *         {@link #postProcess(String)}.
+     */
+    protected boolean processesWords() {
+        return this.postProcessOverridden;
+    }
+
+    /**
+     * Set post-processor for each individual word contained in the identifier, applied to every word drawn.
      * @param postProcessor to modify words.
+     * @see #setPostProcessor(UnaryOperator, boolean)
      */
     public void setPostProcessor(UnaryOperator<String> postProcessor) {
-        this.postProcessor = postProcessor;
+        setPostProcessor(postProcessor, false);
+    }
+
+    /**
+     * Set post-processor for each individual word contained in the identifier.
+     * <p>
+     * A pure post-processor only depends on the word, like changing its case. It is applied once to all words of the
+     * dictionary right away, afterwards words are looked up already processed. Identifiers of processed words can be
+     * parsed as well.
+     * @param postProcessor to modify words.
+     * @param pure whether the result only depends on the word, so it can be computed ahead for all words.
+     * @throws IllegalStateException if the length is limited and no processed identifier fits into it, or identifiers
+     *                               are unique as well.
+     * @see ProcessedWords
+     */
+    public void setPostProcessor(UnaryOperator<String> postProcessor, boolean pure) {
+        Lookup lookup;
+        if (pure && this.dictionary instanceof SlotWords) {
+            lookup = new Lookup(((SlotWords) this.dictionary).processed(postProcessor), IDENTITY);
+        } else if (pure) {
+            lookup = new Lookup(new ProcessedWords(this.dictionary, postProcessor), IDENTITY);
+        } else {
+            lookup = new Lookup(this.dictionary, postProcessor);
+        }
+        int maxLength = this.maxLength;
+        if (maxLength > 0) {
+            if (this.issued != null) {
+                throw new IllegalStateException("post-processor cannot change while limited identifiers are unique");
+            }
+            this.sampler = newSampler(lookup.dictionary, maxLength); // lengths of processed words differ.
+        }
+        this.lookup = lookup;
+    }
+
+    /** Dictionary from which words are read, a view of post-processed words if the post-processor is pure. */
+    private static final class Lookup {
+
+        private final Dictionary dictionary;
+
+        /** Post-processing of words as read, identity if the words are already processed. */
+        private final Function<String, String> postProcessor;
+
+        private Lookup(Dictionary dictionary, Function<String, String> postProcessor) {
+            this.dictionary = dictionary;
+            this.postProcessor = postProcessor;
+        }
+    }
+
+    /** Buffers to build an identifier without allocations besides the identifier. */
+    private static final class Buffers {
+
+        private final long[] positions;
+        private final String[] words;
+        private final StringBuilder builder = new StringBuilder();
+
+        private Buffers(int amountParts) {
+            this.positions = new long[amountParts];
+            this.words = new String[amountParts];
+        }
     }
 }
@@ -1,6 +1,12 @@
 package io.github.devnsi.random;
 
+import io.github.devnsi.random.dictionary.Dictionaries;
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.LazyWords;
+import io.github.devnsi.random.source.ConcurrentRandom;
+
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * {@link RandomIds} adds the lightweight capabilities to generate memorable identifiers by concatenating
@@ -9,23 +15,45 @@ import java.util.List;
  * Random alphanumeric strings and {@link java.util.UUID UUIDs} are commonly used for test identifiers. These are easily
  * produced but are more difficult to discern in logs and remember while correlating issues. There are some test data
  * generators (for random names, cities, ...) to improve readability as an alternative.
+ * <p>
+ * Single identifiers are taken from an {@link IdPool} if the system property {@value #POOL_PROPERTY} is {@code true}.
+ * The words are loaded in the background as soon as this class is loaded, see {@link #warmUp()}.
  */
 public final class RandomIds {
 
+    /** System property to take single identifiers from a pool generated in the background. */
+    public static final String POOL_PROPERTY = "random-ids.pool";
+
+    /** Default words, loading in the background since this class was loaded. */
+    private static final Dictionary WORDS = LazyWords.async(Dictionaries::randomWords);
+
     private RandomIds() {
         // hide constructor for static class.
     }
 
+    /**
+     * Starts to load the words in the background, if not yet started, and returns immediately.
+     * <p>
+     * Call during startup so the first identifier only waits for the remaining load, if any.
+     */
+    public static void warmUp() {
+        // loading this class starts to load the words.
+    }
+
     private static RandomIdGen getInstance() {
         return LazyHolder.INSTANCE;
     }
 
+    private static Supplier<String> getSupplier() {
+        return LazyHolder.SUPPLIER;
+    }
+
     /**
      * Generates a new identifier with the default configuration.
      * @return an identifier.
      */
     public static String next() {
-        return getInstance().next();
+        return getSupplier().get();
     }
 
     /**
@@ -40,6 +68,10 @@ public final class RandomIds {
     /** Initialization-on-demand holder idiom. */
     private static class LazyHolder {
 
-        private static final RandomIdGen INSTANCE = new RandomIdGen();
+        private static final RandomIdGen INSTANCE = new RandomIdGen("-", 3, new ConcurrentRandom(), WORDS);
+
+        private static final Supplier<String> SUPPLIER = Boolean.getBoolean(POOL_PROPERTY)
+                ? new IdPool(INSTANCE)
+                : INSTANCE;
     }
 }
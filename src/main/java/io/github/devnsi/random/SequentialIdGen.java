@@ -0,0 +1,132 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionaries;
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.WeightedDictionary;
+import io.github.devnsi.random.source.RandomSource;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator for human-readable identifiers that never repeat, without keeping track of issued identifiers.
+ * <p>
+ * Identifiers are derived from a counter, which is mapped to a combination of words by a keyed
+ * {@link FeistelPermutation}. Consecutive identifiers look random but are distinct for every counter value. The
+ * counter can be saved and restored to resume generation. Multiple generators with the same key, for example on
+ * different nodes, never produce the same identifier if each is given a disjoint range of counters.
+ */
+public class SequentialIdGen extends RandomIdGen {
+
+    /** Permutation of all combinations of words. */
+    protected final FeistelPermutation permutation;
+
+    /** Next counter value to be issued. */
+    private final AtomicLong counter;
+
+    /** End of the range of counter values (exclusive). */
+    private final long end;
+
+    /**
+     * Generator for human-readable sequential identifiers.
+     * @param delimiter to be used to concatenate words.
+     * @param amountParts to be concatenated (increasing entropy).
+     * @param key to select the order of identifiers, the same key results in the same order.
+     */
+    public SequentialIdGen(String delimiter, int amountParts, long key) {
+        this(delimiter, amountParts, key, Dictionaries.randomWords());
+    }
+
+    /**
+     * Generator for human-readable sequential identifiers.
+     * @param delimiter to be used to concatenate words.
+     * @param amountParts to be concatenated (increasing entropy).
+     * @param key to select the order of identifiers, the same key results in the same order.
+     * @param dictionary from which to build the identifier.
+     */
+    public SequentialIdGen(String delimiter, int amountParts, long key, Dictionary dictionary) {
+        this(delimiter, amountParts, key, dictionary, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Generator for human-readable sequential identifiers within a range of counter values.
+     * @param delimiter to be used to concatenate words.
+     * @param amountParts to be concatenated (increasing entropy).
+     * @param key to select the order of identifiers, the same key results in the same order.
+     * @param dictionary from which to build the identifier.
+     * @param from first counter value (inclusive).
+     * @param to last counter value (exclusive), limited to the amount of combinations.
+     * @throws IllegalArgumentException if the combinations exceed the range of {@code long}, or the dictionary is
+     *                                  weighted, as every combination is issued regardless of weights.
+     */
+    public SequentialIdGen(String delimiter, int amountParts, long key, Dictionary dictionary, long from, long to) {
+        super(delimiter, amountParts, new Random(key), dictionary);
+        if (dictionary instanceof WeightedDictionary) {
+            throw new IllegalArgumentException("weighted dictionaries are not supported by sequential identifiers");
+        }
+        long combinations = combinations();
+        if (combinations == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("combinations of " + amountParts + " words exceed 64 bits");
+        }
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("invalid range of counter values [" + from + ", " + to + ")");
+        }
+        this.permutation = new FeistelPermutation(combinations, key);
+        this.counter = new AtomicLong(from);
+        this.end = Math.min(to, combinations);
+    }
+
+    /**
+     * Next counter value to be issued, to be restored with {@link #setCounter(long)}.
+     * @return next counter value.
+     */
+    public long getCounter() {
+        return this.counter.get();
+    }
+
+    /**
+     * Resumes generation at the counter value.
+     * @param counter next counter value to be issued.
+     */
+    public void setCounter(long counter) {
+        this.counter.set(counter);
+    }
+
+    /**
+     * Counter value from which an identifier was generated, to determine the generator or range that issued it.
+     * @param id generated with the same key, dictionary and configuration.
+     * @return counter value of the identifier.
+     * @throws IllegalArgumentException if the identifier is malformed.
+     */
+    public long counterOf(String id) {
+        return this.permutation.invert(combinationOf(parse(id), 0));
+    }
+
+    /**
+     * Not supported other than without limit, as every counter value must map to an identifier.
+     * @param maxLength 0 for no limit.
+     * @throws UnsupportedOperationException if the length is limited.
+     */
+    @Override
+    public void setMaxLength(int maxLength) {
+        if (maxLength != 0) {
+            throw new UnsupportedOperationException("sequential identifiers cannot be limited in length");
+        }
+    }
+
+    /**
+     * Determines the positions of the words of the identifier of the next counter value.
+     * @param random unused, as positions are determined by the counter.
+     * @param positions to be filled with positions in dictionary.
+     * @param offset of the first of {@link #amountParts} positions to fill.
+     * @throws IllegalStateException if the range of counter values is used up.
+     */
+    @Override
+    protected void randomValues(RandomSource random, long[] positions, int offset) {
+        long value = this.counter.getAndIncrement();
+        if (value < 0 || value >= this.end) {
+            throw new IllegalStateException("all identifiers up to counter value " + this.end + " have been issued");
+        }
+        positionsOf(this.permutation.apply(value), positions, offset);
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.RandomSource;
+
+/**
+ * Draws positions of words in a dictionary.
+ */
+interface WordSampler {
+
+    /**
+     * Draws a single position.
+     * @param random to draw from.
+     * @return position in the dictionary.
+     */
+    long next(RandomSource random);
+
+    /**
+     * Draws the positions of the words of an identifier.
+     * @param random to draw from.
+     * @param positions to be filled.
+     * @param offset of the first position to fill.
+     */
+    void fill(RandomSource random, long[] positions, int offset);
+}
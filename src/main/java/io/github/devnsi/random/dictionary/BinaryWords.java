@@ -0,0 +1,81 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Access to a precompiled word list in resources.
+ * <p>
+ * Resource file is expected in the binary format written by {@link WordsConverter}: a header of magic number, format
+ * version, amount of words and length of the encoded words, followed by the offsets of all words and the UTF-8
+ * encoded words themselves. The resource is loaded with a single read without parsing any lines.
+ */
+public class BinaryWords extends CompactWords {
+
+    /** Identifies the binary format ("RIDW"). */
+    static final int MAGIC = 0x52494457;
+    static final int VERSION = 1;
+
+    public BinaryWords(String path) {
+        this(path, false);
+    }
+
+    /**
+     * Access to a precompiled word list in resources.
+     * @param path of the binary resource.
+     * @param cached whether decoded words are kept for subsequent reads.
+     */
+    public BinaryWords(String path, boolean cached) {
+        super(read(path), cached);
+    }
+
+    BinaryWords(Layout layout, boolean cached) {
+        super(layout, cached);
+    }
+
+    /**
+     * Reads words in the binary format.
+     * @throws IllegalStateException if the resource is malformed.
+     */
+    static Layout read(String path) {
+        try {
+            return read(ByteBuffer.wrap(Resources.readBytes(path)));
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            String message = String.format("could not read binary words %s", path);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    private static Layout read(ByteBuffer input) {
+        if (input.getInt() != MAGIC) {
+            throw new IllegalArgumentException("unknown format");
+        }
+        int version = input.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported version " + version);
+        }
+        int count = input.getInt();
+        int length = input.getInt();
+        if (count < 0 || count >= input.remaining() / Integer.BYTES) {
+            throw new IllegalArgumentException(String.format("%d words exceed %d bytes", count, input.remaining()));
+        }
+        int[] offsets = new int[count + 1];
+        input.asIntBuffer().get(offsets);
+        input.position(input.position() + offsets.length * Integer.BYTES);
+        int start = input.position();
+        if (length < 0 || length > input.limit() - start) {
+            throw new IllegalArgumentException(String.format("%d bytes of words exceed %d", length, input.remaining()));
+        }
+        for (int i = 0; i < count; i++) {
+            if (offsets[i] < 0 || offsets[i] > offsets[i + 1]) {
+                throw new IllegalArgumentException(String.format("offset of word %d out of order", i));
+            }
+        }
+        if (offsets[count] != length) {
+            throw new IllegalArgumentException(String.format("words end at %d instead of %d", offsets[count], length));
+        }
+        byte[] data = Arrays.copyOfRange(input.array(), start, start + length);
+        return new Layout(data, offsets);
+    }
+}
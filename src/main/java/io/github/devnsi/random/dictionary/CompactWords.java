@@ -0,0 +1,224 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Access to a word list in resources that is held in memory as encoded bytes.
+ * <p>
+ * Resource file is expected to be newline-delimited and UTF-8 encoded. All words are stored back to back in a single
+ * array, located by a table of offsets. Words are only decoded when read, which keeps about one byte per character
+ * resident instead of a {@link String} per word. Decoded words can optionally be cached, encoded words can be copied
+ * without decoding.
+ */
+public class CompactWords implements EncodedDictionary {
+
+    /** Encoded words without delimiters. */
+    protected final byte[] data;
+
+    /** Start of each word in {@link #data}, followed by the end of the last word. */
+    protected final int[] offsets;
+
+    /** Decoded words by position, if caching is enabled. */
+    protected final String[] cache;
+
+    /** Order of the words for reverse lookups, created on first lookup. */
+    private volatile SortedIndex index;
+
+    public CompactWords(String path) {
+        this(path, false);
+    }
+
+    /**
+     * Access to a word list in resources.
+     * @param path of the newline-delimited resource.
+     * @param cached whether decoded words are kept for subsequent reads.
+     */
+    public CompactWords(String path, boolean cached) {
+        this(Layout.ofLines(Resources.readBytes(path)), cached);
+    }
+
+    CompactWords(Layout layout, boolean cached) {
+        this(layout.data, layout.offsets, cached);
+    }
+
+    /**
+     * Access to words that are already laid out.
+     * @param data encoded words without delimiters.
+     * @param offsets start of each word in data, followed by the end of the last word.
+     * @param cached whether decoded words are kept for subsequent reads.
+     */
+    protected CompactWords(byte[] data, int[] offsets, boolean cached) {
+        this.data = data;
+        this.offsets = offsets;
+        this.cache = cached ? new String[offsets.length - 1] : null;
+    }
+
+    @Override
+    public long size() {
+        return this.offsets.length - 1L;
+    }
+
+    /**
+     * Read word at the position.
+     * @param position between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public String readWord(long position) {
+        int index = normalized(position);
+        if (this.cache == null) {
+            return decode(index);
+        }
+        String word = this.cache[index];
+        if (word == null) {
+            word = decode(index);
+            this.cache[index] = word; // racy but benign, as strings are immutable.
+        }
+        return word;
+    }
+
+    /**
+     * Read words at the positions.
+     * @param positions between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public List<String> readWords(Long... positions) {
+        List<String> result = new ArrayList<>(positions.length);
+        for (Long position : positions) {
+            result.add(readWord(position));
+        }
+        return result;
+    }
+
+    @Override
+    public int encodedLength(long position) {
+        int index = normalized(position);
+        return this.offsets[index + 1] - this.offsets[index];
+    }
+
+    @Override
+    public int writeWord(long position, byte[] target, int offset) {
+        int index = normalized(position);
+        int length = this.offsets[index + 1] - this.offsets[index];
+        System.arraycopy(this.data, this.offsets[index], target, offset, length);
+        return length;
+    }
+
+    @Override
+    public int writeWord(long position, ByteBuffer target) {
+        int index = normalized(position);
+        int length = this.offsets[index + 1] - this.offsets[index];
+        target.put(this.data, this.offsets[index], length);
+        return length;
+    }
+
+    /**
+     * Position of a word by binary search over the encoded words.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained.
+     */
+    @Override
+    public long indexOf(String word) {
+        SortedIndex sorted = this.index;
+        if (sorted == null) {
+            int size = (int) size();
+            sorted = SortedIndex.of(size, (a, b) -> compare(a, this.data, this.offsets[b], this.offsets[b + 1]));
+            this.index = sorted;
+        }
+        byte[] encoded = word.getBytes(StandardCharsets.UTF_8);
+        return sorted.find(position -> compare(position, encoded, 0, encoded.length));
+    }
+
+    /** Compares the encoded word at the position with a range of bytes, by unsigned bytes as in UTF-8 order. */
+    int compare(int position, byte[] other, int from, int to) {
+        int start = this.offsets[position];
+        int length = this.offsets[position + 1] - start;
+        int otherLength = to - from;
+        for (int i = 0; i < Math.min(length, otherLength); i++) {
+            int compared = (this.data[start + i] & 0xFF) - (other[from + i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return length - otherLength;
+    }
+
+    protected String decode(int index) {
+        int start = this.offsets[index];
+        return new String(this.data, start, this.offsets[index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    protected int normalized(long position) {
+        return (int) Math.min(Math.max(0, position), size() - 1);
+    }
+
+    /** Words laid out back to back with their offsets. */
+    static final class Layout {
+
+        final byte[] data;
+        final int[] offsets;
+
+        Layout(byte[] data, int[] offsets) {
+            this.data = data;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Removes the line delimiters in place while recording where each line starts.
+         * @param lines newline-delimited content, which is overwritten.
+         * @return compacted words.
+         */
+        static Layout ofLines(byte[] lines) {
+            int[] offsets = new int[1024];
+            int count = 0;
+            int position = 0;
+            int start = 0;
+            while (start < lines.length) {
+                int end = start;
+                while (end < lines.length && lines[end] != '\n') {
+                    end++;
+                }
+                int next = end + 1;
+                if (end > start && lines[end - 1] == '\r') {
+                    end--;
+                }
+                if (count + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[count++] = position;
+                System.arraycopy(lines, start, lines, position, end - start);
+                position += end - start;
+                start = next;
+            }
+            offsets[count] = position;
+            return new Layout(Arrays.copyOf(lines, position), Arrays.copyOf(offsets, count + 1));
+        }
+
+        /**
+         * Encodes words back to back.
+         * @param words in order of their positions.
+         * @return compacted words.
+         */
+        static Layout ofWords(String[] words) {
+            byte[] data = new byte[Math.max(16, words.length * 8)];
+            int[] offsets = new int[words.length + 1];
+            int length = 0;
+            for (int i = 0; i < words.length; i++) {
+                byte[] word = words[i].getBytes(StandardCharsets.UTF_8);
+                if (length + word.length > data.length) {
+                    data = Arrays.copyOf(data, Math.max(data.length * 2, length + word.length));
+                }
+                System.arraycopy(word, 0, data, length, word.length);
+                offsets[i] = length;
+                length += word.length;
+            }
+            offsets[words.length] = length;
+            return new Layout(Arrays.copyOf(data, length), offsets);
+        }
+    }
+}
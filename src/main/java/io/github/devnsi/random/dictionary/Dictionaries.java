@@ -0,0 +1,144 @@
+package io.github.devnsi.random.dictionary;
+
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Registry of dictionaries shared by all generators, so each word list is loaded and kept only once.
+ * <p>
+ * Dictionaries are registered by their type together with the location of their resource and with a hash of its
+ * content, so the same words found by different class loaders are shared as well, while the same resource loaded as
+ * another type of dictionary is not. Dictionaries are only softly referenced and loaded again if they were collected
+ * under memory pressure. Shared dictionaries must be thread-safe and not be modified. The words of the library are
+ * registered by their location only, so they are not read a second time to be hashed.
+ */
+public final class Dictionaries {
+
+    private static final Map<String, SoftReference<Dictionary>> BY_LOCATION = new ConcurrentHashMap<>();
+    private static final Map<String, SoftReference<Dictionary>> BY_CONTENT = new ConcurrentHashMap<>();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private Dictionaries() {
+        // hide constructor for static class.
+    }
+
+    /**
+     * Shared selection of english words contained in the library.
+     * @return shared {@link RandomWords}.
+     */
+    public static Dictionary randomWords() {
+        String location = location(RandomWords.path(), RandomWords.class);
+        RandomWords dictionary = get(BY_LOCATION, location, RandomWords.class);
+        if (dictionary != null) {
+            HITS.increment();
+            return dictionary;
+        }
+        synchronized (Dictionaries.class) {
+            dictionary = get(BY_LOCATION, location, RandomWords.class);
+            if (dictionary != null) {
+                HITS.increment();
+            } else {
+                MISSES.increment();
+                dictionary = new RandomWords();
+                BY_LOCATION.put(location, new SoftReference<>(dictionary));
+            }
+            return dictionary;
+        }
+    }
+
+    /**
+     * Shared dictionary of a resource, loaded if not yet registered.
+     * @param path of the resource.
+     * @param type of the dictionary, resources are registered separately per type.
+     * @param loader to load the dictionary from the path, if neither the location nor the content is registered.
+     * @param <T> type of the dictionary.
+     * @return registered or loaded dictionary.
+     * @throws IllegalStateException if the resource does not exist.
+     */
+    public static <T extends Dictionary> T shared(String path, Class<T> type, Function<String, ? extends T> loader) {
+        String location = location(path, type);
+        T dictionary = get(BY_LOCATION, location, type);
+        if (dictionary != null) {
+            HITS.increment();
+            return dictionary;
+        }
+        return register(path, location, type, loader);
+    }
+
+    private static synchronized <T extends Dictionary> T register(String path, String location, Class<T> type,
+                                                                  Function<String, ? extends T> loader) {
+        T dictionary = get(BY_LOCATION, location, type);
+        String content = null;
+        if (dictionary == null) {
+            content = type.getName() + " " + hash(Resources.readBytes(path));
+            dictionary = get(BY_CONTENT, content, type);
+        }
+        if (dictionary != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            dictionary = type.cast(loader.apply(path));
+            BY_CONTENT.put(content, new SoftReference<>(dictionary));
+        }
+        BY_LOCATION.put(location, new SoftReference<>(dictionary));
+        return dictionary;
+    }
+
+    /** Key of a dictionary of the type by the location of its resource. */
+    private static String location(String path, Class<?> type) {
+        URL url = Thread.currentThread().getContextClassLoader().getResource(path);
+        if (url == null) {
+            throw new IllegalStateException(String.format("could not find resource %s", path));
+        }
+        return type.getName() + " " + url.toExternalForm();
+    }
+
+    private static <T extends Dictionary> T get(Map<String, SoftReference<Dictionary>> registry, String key,
+                                                Class<T> type) {
+        SoftReference<Dictionary> reference = registry.get(key);
+        Dictionary dictionary = reference == null ? null : reference.get();
+        return type.isInstance(dictionary) ? type.cast(dictionary) : null;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    /**
+     * Amount of lookups served by a registered dictionary.
+     * @return amount of hits.
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Amount of lookups that loaded a dictionary.
+     * @return amount of misses.
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Forgets all registered dictionaries, which remain in use by existing generators.
+     */
+    public static synchronized void clear() {
+        BY_LOCATION.clear();
+        BY_CONTENT.clear();
+    }
+}
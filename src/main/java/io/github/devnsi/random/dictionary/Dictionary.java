@@ -26,4 +26,29 @@ public interface Dictionary {
      * @return word at the position.
      */
     List<String> readWords(Long... positions);
+
+    /**
+     * Position of a word.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size}-1, or -1 if not contained.
+     */
+    default long indexOf(String word) {
+        for (long position = 0; position < size(); position++) {
+            if (readWord(position).equals(word)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read words at the positions without boxing.
+     * @param positions between 0 and {@link #size}-1.
+     * @param words to be filled with the word of the position at the same index.
+     */
+    default void readWords(long[] positions, String[] words) {
+        for (int i = 0; i < positions.length; i++) {
+            words[i] = readWord(positions[i]);
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Dictionary holding its words UTF-8 encoded, which can be copied without decoding them to strings.
+ */
+public interface EncodedDictionary extends Dictionary {
+
+    /**
+     * Length of the encoded word at the position.
+     * @param position between 0 and {@link #size}-1.
+     * @return amount of bytes of the word.
+     */
+    int encodedLength(long position);
+
+    /**
+     * Copies the encoded word at the position.
+     * @param position between 0 and {@link #size}-1.
+     * @param target to copy the word into, with enough space for {@link #encodedLength(long)} bytes.
+     * @param offset in target at which to copy the word.
+     * @return amount of bytes copied.
+     */
+    int writeWord(long position, byte[] target, int offset);
+
+    /**
+     * Copies the encoded word at the position, advancing the position of the buffer.
+     * @param position between 0 and {@link #size}-1.
+     * @param target to copy the word into, with enough remaining space for {@link #encodedLength(long)} bytes.
+     * @return amount of bytes copied.
+     */
+    int writeWord(long position, ByteBuffer target);
+}
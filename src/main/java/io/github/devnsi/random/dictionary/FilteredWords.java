@@ -0,0 +1,206 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * View of the words of a dictionary that pass a filter, for example by length, excluded words or characters.
+ * <p>
+ * The filter is applied once to all words when the view is created, keeping the positions of the remaining words in a
+ * single array of 4 bytes per remaining word. Words are read from the underlying dictionary, which is shared and not
+ * copied. Drawing from the view costs the same as drawing from the dictionary, as no drawn word is rejected. Views
+ * created by {@link #of(Dictionary, Predicate)} and the other factories are an {@link EncodedDictionary} if the
+ * dictionary is one.
+ */
+public class FilteredWords implements Dictionary {
+
+    /** Amount of words read from the underlying dictionary at once while filtering. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /** Dictionary holding the words. */
+    protected final Dictionary source;
+
+    /** Positions in the underlying dictionary of the remaining words, in ascending order. */
+    protected final int[] positions;
+
+    /** Reusable positions in the underlying dictionary of each thread to read words at once. */
+    private final ThreadLocal<long[]> mapped = ThreadLocal.withInitial(() -> new long[0]);
+
+    /**
+     * Words of a dictionary that pass a filter.
+     * @param source dictionary to read the words from, read completely once.
+     * @param filter whether to keep a word.
+     * @throws IllegalStateException if no word remains.
+     */
+    public FilteredWords(Dictionary source, Predicate<String> filter) {
+        this.source = source;
+        this.positions = filter(source, filter);
+    }
+
+    /**
+     * Words of a dictionary that pass a filter, copied as encoded if the dictionary is an {@link EncodedDictionary}.
+     * @param source dictionary to read the words from, read completely once.
+     * @param filter whether to keep a word.
+     * @return filtered view.
+     * @throws IllegalStateException if no word remains.
+     */
+    public static FilteredWords of(Dictionary source, Predicate<String> filter) {
+        if (source instanceof EncodedDictionary) {
+            return new Encoded((EncodedDictionary) source, filter);
+        }
+        return new FilteredWords(source, filter);
+    }
+
+    /**
+     * Words of at most a number of characters.
+     * @param source dictionary to read the words from.
+     * @param maxLength maximum amount of characters (code points) of a word.
+     * @return filtered view.
+     */
+    public static FilteredWords maxLength(Dictionary source, int maxLength) {
+        return of(source, word -> word.codePointCount(0, word.length()) <= maxLength);
+    }
+
+    /**
+     * Words except the excluded words.
+     * @param source dictionary to read the words from.
+     * @param excluded words to leave out, for example a denylist.
+     * @return filtered view.
+     */
+    public static FilteredWords excluding(Dictionary source, Collection<String> excluded) {
+        Set<String> denied = new HashSet<>(excluded);
+        return of(source, word -> !denied.contains(word));
+    }
+
+    /**
+     * Words consisting of ASCII characters only.
+     * @param source dictionary to read the words from.
+     * @return filtered view.
+     */
+    public static FilteredWords ascii(Dictionary source) {
+        return of(source, word -> word.chars().allMatch(c -> c < 0x80));
+    }
+
+    private static int[] filter(Dictionary source, Predicate<String> filter) {
+        int size = Math.toIntExact(source.size());
+        int[] remaining = new int[size];
+        int count = 0;
+        long[] chunk = new long[Math.min(size, CHUNK_SIZE)];
+        String[] words = new String[chunk.length];
+        for (int from = 0; from < size; from += chunk.length) {
+            int amount = Math.min(chunk.length, size - from);
+            if (amount < chunk.length) {
+                chunk = new long[amount];
+                words = new String[amount];
+            }
+            for (int i = 0; i < amount; i++) {
+                chunk[i] = from + i;
+            }
+            source.readWords(chunk, words);
+            for (int i = 0; i < amount; i++) {
+                if (filter.test(words[i])) {
+                    remaining[count++] = from + i;
+                }
+            }
+        }
+        if (count == 0) {
+            throw new IllegalStateException(String.format("none of %d words passed the filter", size));
+        }
+        return Arrays.copyOf(remaining, count);
+    }
+
+    @Override
+    public long size() {
+        return this.positions.length;
+    }
+
+    /**
+     * Read word at the position.
+     * @param position between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public String readWord(long position) {
+        return this.source.readWord(sourcePosition(position));
+    }
+
+    /**
+     * Read words at the positions.
+     * @param positions between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public List<String> readWords(Long... positions) {
+        List<String> result = new ArrayList<>(positions.length);
+        for (Long position : positions) {
+            result.add(readWord(position));
+        }
+        return result;
+    }
+
+    @Override
+    public void readWords(long[] positions, String[] words) {
+        long[] mapped = this.mapped.get();
+        if (mapped.length != positions.length) {
+            mapped = new long[positions.length];
+            this.mapped.set(mapped);
+        }
+        for (int i = 0; i < positions.length; i++) {
+            mapped[i] = sourcePosition(positions[i]);
+        }
+        this.source.readWords(mapped, words);
+    }
+
+    /**
+     * Position of a word, looked up in the underlying dictionary.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained or filtered.
+     */
+    @Override
+    public long indexOf(String word) {
+        long position = this.source.indexOf(word);
+        if (position < 0) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(this.positions, (int) position);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * Position in the underlying dictionary of a word of the view.
+     * @param position between 0 and {@link #size()}-1.
+     * @return position in the underlying dictionary.
+     */
+    protected long sourcePosition(long position) {
+        return this.positions[(int) Math.min(Math.max(0, position), this.positions.length - 1)];
+    }
+
+    /** View of an encoded dictionary, copying the words as encoded. */
+    private static final class Encoded extends FilteredWords implements EncodedDictionary {
+
+        private Encoded(EncodedDictionary source, Predicate<String> filter) {
+            super(source, filter);
+        }
+
+        @Override
+        public int encodedLength(long position) {
+            return ((EncodedDictionary) this.source).encodedLength(sourcePosition(position));
+        }
+
+        @Override
+        public int writeWord(long position, byte[] target, int offset) {
+            return ((EncodedDictionary) this.source).writeWord(sourcePosition(position), target, offset);
+        }
+
+        @Override
+        public int writeWord(long position, ByteBuffer target) {
+            return ((EncodedDictionary) this.source).writeWord(sourcePosition(position), target);
+        }
+    }
+}
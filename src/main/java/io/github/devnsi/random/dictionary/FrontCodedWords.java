@@ -0,0 +1,361 @@
+package io.github.devnsi.random.dictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access to a word list in resources that is held in memory compressed by front coding.
+ * <p>
+ * Words are stored in blocks of {@value #BLOCK_SIZE}. The first word of a block is stored completely, every other word
+ * only as the length of the prefix it shares with the previous word and the remaining suffix, which compresses sorted
+ * word lists well. Reading a word decodes at most the words of its block up to the word, located by a table of block
+ * offsets. Decoded blocks can optionally be kept in a small cache of the least recently used blocks.
+ * <p>
+ * Resource file is expected either newline-delimited and UTF-8 encoded, which is compressed when loaded, or already
+ * compressed by {@link WordsConverter} to be loaded with a single read. Words are looked up by binary search over the
+ * first words of the blocks if the words are sorted.
+ */
+public class FrontCodedWords implements Dictionary {
+
+    /** Identifies the binary format ("RIDF"). */
+    static final int MAGIC = 0x52494446;
+    static final int VERSION = 1;
+
+    /** Amount of words per block. */
+    static final int BLOCK_SIZE = 16;
+
+    /** Front-coded blocks back to back. */
+    protected final byte[] data;
+
+    /** Start of each block in {@link #data}. */
+    protected final int[] blocks;
+
+    /** Amount of words. */
+    private final int size;
+
+    /** Length of the longest encoded word, to decode without growing a buffer. */
+    private final int maxLength;
+
+    /** Whether the words are sorted by their encoded bytes, which allows binary search. */
+    private final boolean sorted;
+
+    /** Decoded blocks by block, least recently used first, or null if not cached. */
+    private final Map<Integer, String[]> cache;
+
+    public FrontCodedWords(String path) {
+        this(path, 0);
+    }
+
+    /**
+     * Access to a compressed word list in resources.
+     * @param path of the newline-delimited or compressed resource.
+     * @param cachedBlocks amount of decoded blocks to keep, 0 to decode on every read. Pays off only if reads repeat
+     *                     within few blocks, uniform reads of a large list mostly miss and decode a whole block.
+     * @throws IllegalStateException if the compressed resource is malformed.
+     */
+    public FrontCodedWords(String path, int cachedBlocks) {
+        this(read(path), cachedBlocks);
+    }
+
+    private FrontCodedWords(Encoded encoded, int cachedBlocks) {
+        this.data = encoded.data;
+        this.blocks = encoded.blocks;
+        this.size = encoded.size;
+        this.maxLength = encoded.maxLength;
+        this.sorted = encoded.sorted;
+        this.cache = cachedBlocks <= 0 ? null : new LinkedHashMap<Integer, String[]>(cachedBlocks * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+                return size() > cachedBlocks;
+            }
+        };
+    }
+
+    private static Encoded read(String path) {
+        byte[] content = Resources.readBytes(path);
+        ByteBuffer input = ByteBuffer.wrap(content);
+        if (content.length < Integer.BYTES || input.getInt() != MAGIC) {
+            return Encoded.of(CompactWords.Layout.ofLines(content));
+        }
+        try {
+            int version = input.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("unsupported version " + version);
+            }
+            int size = input.getInt();
+            int maxLength = input.getInt();
+            boolean sorted = input.get() != 0;
+            int count = input.getInt();
+            if (size <= 0 || maxLength < 0 || maxLength > Encoded.MAX_LENGTH) {
+                throw new IllegalArgumentException(String.format("%d words of %d bytes", size, maxLength));
+            }
+            if (count != (size + BLOCK_SIZE - 1) / BLOCK_SIZE || count > input.remaining() / Integer.BYTES) {
+                String message = String.format("%d blocks of %d words exceed %d bytes", count, size, input.remaining());
+                throw new IllegalArgumentException(message);
+            }
+            int[] blocks = new int[count];
+            input.asIntBuffer().get(blocks);
+            input.position(input.position() + blocks.length * Integer.BYTES);
+            byte[] data = Arrays.copyOfRange(content, input.position(), content.length);
+            for (int i = 0; i < count; i++) {
+                if (blocks[i] < (i == 0 ? 0 : blocks[i - 1]) || blocks[i] >= data.length) {
+                    throw new IllegalArgumentException(String.format("block %d out of order", i));
+                }
+            }
+            return new Encoded(data, blocks, size, maxLength, sorted);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            String message = String.format("could not read front-coded words %s", path);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    /**
+     * Writes words in the compressed format.
+     * @param layout of the words.
+     * @param output to write to, not closed.
+     * @throws IOException while writing.
+     */
+    static void write(CompactWords.Layout layout, DataOutputStream output) throws IOException {
+        Encoded encoded = Encoded.of(layout);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(encoded.size);
+        output.writeInt(encoded.maxLength);
+        output.writeBoolean(encoded.sorted);
+        output.writeInt(encoded.blocks.length);
+        for (int block : encoded.blocks) {
+            output.writeInt(block);
+        }
+        output.write(encoded.data);
+        output.flush();
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Read word at the position, decoding its block up to the word unless cached.
+     * @param position between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public String readWord(long position) {
+        int index = (int) Math.min(Math.max(0, position), this.size - 1L);
+        int block = index / BLOCK_SIZE;
+        if (this.cache == null) {
+            byte[] word = new byte[this.maxLength];
+            int length = decode(block, index % BLOCK_SIZE, word);
+            return new String(word, 0, length, StandardCharsets.UTF_8);
+        }
+        String[] words;
+        synchronized (this.cache) {
+            words = this.cache.get(block);
+        }
+        if (words == null) {
+            words = decodeBlock(block);
+            synchronized (this.cache) {
+                this.cache.put(block, words);
+            }
+        }
+        return words[index % BLOCK_SIZE];
+    }
+
+    /**
+     * Read words at the positions.
+     * @param positions between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public List<String> readWords(Long... positions) {
+        List<String> result = new ArrayList<>(positions.length);
+        for (Long position : positions) {
+            result.add(readWord(position));
+        }
+        return result;
+    }
+
+    @Override
+    public void readWords(long[] positions, String[] words) {
+        if (this.cache != null) {
+            for (int i = 0; i < positions.length; i++) {
+                words[i] = readWord(positions[i]);
+            }
+            return;
+        }
+        byte[] word = new byte[this.maxLength];
+        for (int i = 0; i < positions.length; i++) {
+            int index = (int) Math.min(Math.max(0, positions[i]), this.size - 1L);
+            int length = decode(index / BLOCK_SIZE, index % BLOCK_SIZE, word);
+            words[i] = new String(word, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Position of a word by binary search over the blocks, if the words are sorted.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained.
+     */
+    @Override
+    public long indexOf(String word) {
+        if (!this.sorted) {
+            return Dictionary.super.indexOf(word);
+        }
+        byte[] encoded = word.getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[this.maxLength];
+        int low = 0;
+        int high = this.blocks.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            int length = decode(middle, 0, buffer);
+            if (compare(buffer, length, encoded) <= 0) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        int first = low * BLOCK_SIZE;
+        for (int i = 0; i < Math.min(BLOCK_SIZE, this.size - first); i++) {
+            int length = decode(low, i, buffer);
+            int compared = compare(buffer, length, encoded);
+            if (compared == 0) {
+                return first + i;
+            } else if (compared > 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes the words of a block up to a word into the buffer.
+     * @return length of the word.
+     */
+    private int decode(int block, int index, byte[] word) {
+        int at = this.blocks[block];
+        int length = 0;
+        for (int i = 0; i <= index; i++) {
+            int prefix = 0;
+            if (i > 0) {
+                prefix = this.data[at++] & 0xFF;
+                if (prefix >= 0x80) {
+                    prefix = (prefix & 0x7F) | (this.data[at++] & 0xFF) << 7;
+                }
+            }
+            int suffix = this.data[at++] & 0xFF;
+            if (suffix >= 0x80) {
+                suffix = (suffix & 0x7F) | (this.data[at++] & 0xFF) << 7;
+            }
+            System.arraycopy(this.data, at, word, prefix, suffix);
+            at += suffix;
+            length = prefix + suffix;
+        }
+        return length;
+    }
+
+    private String[] decodeBlock(int block) {
+        int count = Math.min(BLOCK_SIZE, this.size - block * BLOCK_SIZE);
+        String[] words = new String[count];
+        byte[] word = new byte[this.maxLength];
+        for (int i = 0; i < count; i++) {
+            words[i] = new String(word, 0, decode(block, i, word), StandardCharsets.UTF_8);
+        }
+        return words;
+    }
+
+    /** Compares encoded words by unsigned bytes, as in UTF-8 order. */
+    private static int compare(byte[] word, int length, byte[] other) {
+        for (int i = 0; i < Math.min(length, other.length); i++) {
+            int compared = (word[i] & 0xFF) - (other[i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return length - other.length;
+    }
+
+    /** Front-coded words. */
+    private static final class Encoded {
+
+        /** Longest length of a word, stored in at most two bytes. */
+        private static final int MAX_LENGTH = (1 << 14) - 1;
+
+        final byte[] data;
+        final int[] blocks;
+        final int size;
+        final int maxLength;
+        final boolean sorted;
+
+        private Encoded(byte[] data, int[] blocks, int size, int maxLength, boolean sorted) {
+            this.data = data;
+            this.blocks = blocks;
+            this.size = size;
+            this.maxLength = maxLength;
+            this.sorted = sorted;
+        }
+
+        static Encoded of(CompactWords.Layout layout) {
+            byte[] words = layout.data;
+            int[] offsets = layout.offsets;
+            int size = offsets.length - 1;
+            if (size == 0) {
+                throw new IllegalStateException("cannot compress an empty word list");
+            }
+            int[] blocks = new int[(size + BLOCK_SIZE - 1) / BLOCK_SIZE];
+            byte[] data = new byte[words.length + size * 4];
+            int at = 0;
+            int maxLength = 0;
+            boolean sorted = true;
+            for (int i = 0; i < size; i++) {
+                int start = offsets[i];
+                int length = offsets[i + 1] - start;
+                if (length > MAX_LENGTH) {
+                    throw new IllegalStateException(String.format("word at %d exceeds %d bytes", i, MAX_LENGTH));
+                }
+                maxLength = Math.max(maxLength, length);
+                int prefix = 0;
+                if (i > 0) {
+                    int previous = offsets[i - 1];
+                    int previousLength = start - previous;
+                    int shared = Math.min(length, previousLength);
+                    while (prefix < shared && words[previous + prefix] == words[start + prefix]) {
+                        prefix++;
+                    }
+                    boolean greater = prefix == previousLength
+                            || prefix < length && (words[start + prefix] & 0xFF) > (words[previous + prefix] & 0xFF);
+                    sorted &= greater;
+                }
+                if (i % BLOCK_SIZE == 0) {
+                    blocks[i / BLOCK_SIZE] = at;
+                    prefix = 0;
+                } else {
+                    at = writeLength(data, at, prefix);
+                }
+                at = writeLength(data, at, length - prefix);
+                System.arraycopy(words, start + prefix, data, at, length - prefix);
+                at += length - prefix;
+            }
+            return new Encoded(Arrays.copyOf(data, at), blocks, size, maxLength, sorted);
+        }
+
+        /** Writes a length in one byte below 128, in two bytes otherwise. */
+        private static int writeLength(byte[] data, int at, int length) {
+            if (length < 0x80) {
+                data[at] = (byte) length;
+                return at + 1;
+            }
+            data[at] = (byte) (0x80 | length & 0x7F);
+            data[at + 1] = (byte) (length >>> 7);
+            return at + 2;
+        }
+    }
+}
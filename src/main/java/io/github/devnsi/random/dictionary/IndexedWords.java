@@ -0,0 +1,75 @@
+package io.github.devnsi.random.dictionary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access to a word list in resources that is held in memory.
+ * <p>
+ * Resource file is expected to be newline-delimited. It is read once on construction, words are looked up by their
+ * index afterwards.
+ */
+public class IndexedWords implements Dictionary {
+
+    /** Words in order of the word list. */
+    protected final String[] words;
+
+    /** Order of the words for reverse lookups, created on first lookup. */
+    private volatile SortedIndex index;
+
+    public IndexedWords(String path) {
+        this(Resources.readLines(path));
+    }
+
+    public IndexedWords(List<String> words) {
+        this.words = words.toArray(new String[0]);
+    }
+
+    @Override
+    public long size() {
+        return this.words.length;
+    }
+
+    /**
+     * Read word at the position.
+     * @param position between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public String readWord(long position) {
+        return this.words[normalized(position)];
+    }
+
+    /**
+     * Read words at the positions.
+     * @param positions between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public List<String> readWords(Long... positions) {
+        List<String> result = new ArrayList<>(positions.length);
+        for (Long position : positions) {
+            result.add(readWord(position));
+        }
+        return result;
+    }
+
+    /**
+     * Position of a word by binary search.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained.
+     */
+    @Override
+    public long indexOf(String word) {
+        SortedIndex sorted = this.index;
+        if (sorted == null) {
+            sorted = SortedIndex.of(this.words.length, (a, b) -> this.words[a].compareTo(this.words[b]));
+            this.index = sorted;
+        }
+        return sorted.find(position -> this.words[position].compareTo(word));
+    }
+
+    protected int normalized(long position) {
+        return (int) Math.min(Math.max(0, position), this.words.length - 1);
+    }
+}
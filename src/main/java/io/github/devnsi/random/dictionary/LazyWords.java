@@ -0,0 +1,95 @@
+package io.github.devnsi.random.dictionary;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Dictionary loaded on first use, or in the background right away.
+ * <p>
+ * Callers arriving while the dictionary is loaded wait for the load in progress instead of loading again. A failed load
+ * is thrown to the caller and attempted again on the next use.
+ */
+public class LazyWords implements Dictionary {
+
+    private final Supplier<? extends Dictionary> loader;
+    private volatile Dictionary dictionary;
+
+    /**
+     * Dictionary loaded on first use.
+     * @param loader to load the dictionary, called once.
+     */
+    public LazyWords(Supplier<? extends Dictionary> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Dictionary loaded by a background daemon thread right away.
+     * <p>
+     * Use before the first identifier is needed, for example when a class is loaded, so the first caller only waits
+     * for the remaining load.
+     * @param loader to load the dictionary.
+     * @return dictionary being loaded.
+     */
+    public static LazyWords async(Supplier<? extends Dictionary> loader) {
+        LazyWords words = new LazyWords(loader);
+        Thread thread = new Thread(words::warmUp, "random-ids-loader");
+        thread.setDaemon(true);
+        thread.start();
+        return words;
+    }
+
+    private void warmUp() {
+        try {
+            dictionary();
+        } catch (RuntimeException exception) {
+            // thrown again to the first caller.
+        }
+    }
+
+    /**
+     * Whether the dictionary has been loaded.
+     * @return true if loaded, false if not yet or still loading.
+     */
+    public boolean isLoaded() {
+        return this.dictionary != null;
+    }
+
+    private Dictionary dictionary() {
+        Dictionary dictionary = this.dictionary;
+        if (dictionary == null) {
+            synchronized (this) {
+                dictionary = this.dictionary;
+                if (dictionary == null) {
+                    dictionary = this.loader.get();
+                    this.dictionary = dictionary;
+                }
+            }
+        }
+        return dictionary;
+    }
+
+    @Override
+    public long size() {
+        return dictionary().size();
+    }
+
+    @Override
+    public String readWord(long position) {
+        return dictionary().readWord(position);
+    }
+
+    @Override
+    public List<String> readWords(Long... positions) {
+        return dictionary().readWords(positions);
+    }
+
+    @Override
+    public void readWords(long[] positions, String[] words) {
+        dictionary().readWords(positions, words);
+    }
+
+    @Override
+    public long indexOf(String word) {
+        return dictionary().indexOf(word);
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.devnsi.random.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access to a word list in the file system that is memory-mapped instead of read onto the heap.
+ * <p>
+ * File is expected to be newline-delimited and UTF-8 encoded. The start of each line is kept in a sidecar index file,
+ * which is built on first access and reused as long as the word list is unchanged. Word lists are limited to 2 GB.
+ */
+public class MappedWords implements Dictionary {
+
+    /** Identifies the index format ("RIDX"). */
+    private static final int INDEX_MAGIC = 0x52494458;
+    private static final int INDEX_VERSION = 1;
+    /** Magic, version, size and modification time of the word list, amount of lines. */
+    private static final int INDEX_HEADER = 4 + 4 + 8 + 8 + 4;
+
+    protected final Path file;
+    protected final Path indexFile;
+
+    /** Content of the word list. */
+    private final ByteBuffer words;
+
+    /** Start of each line, followed by the end of the content. */
+    private final IntBuffer index;
+
+    /** Order of the words for reverse lookups, created on first lookup. */
+    private volatile SortedIndex sortedIndex;
+
+    public MappedWords(String path) {
+        this(Paths.get(path));
+    }
+
+    public MappedWords(Path file) {
+        this(file, file.resolveSibling(file.getFileName() + ".idx"));
+    }
+
+    /**
+     * Access to a word list in the file system.
+     * @param file of the newline-delimited word list.
+     * @param indexFile to store the line index in, created or replaced if outdated.
+     */
+    public MappedWords(Path file, Path indexFile) {
+        this.file = file;
+        this.indexFile = indexFile;
+        try {
+            this.words = map(file);
+            this.index = loadIndex();
+        } catch (IOException exception) {
+            String message = String.format("could not map words %s", file);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                String message = String.format("words %s exceed the maximum size of 2 GB", path);
+                throw new IllegalStateException(message);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private IntBuffer loadIndex() throws IOException {
+        if (!isIndexCurrent()) {
+            writeIndex();
+        }
+        ByteBuffer mapped = map(this.indexFile);
+        mapped.position(INDEX_HEADER);
+        return mapped.slice().asIntBuffer();
+    }
+
+    private boolean isIndexCurrent() throws IOException {
+        if (!Files.isRegularFile(this.indexFile)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(this.indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // read complete header.
+            }
+            header.flip();
+            return header.remaining() == INDEX_HEADER
+                    && header.getInt() == INDEX_MAGIC
+                    && header.getInt() == INDEX_VERSION
+                    && header.getLong() == Files.size(this.file)
+                    && header.getLong() == Files.getLastModifiedTime(this.file).toMillis()
+                    && channel.size() == INDEX_HEADER + (header.getInt() + 1L) * Integer.BYTES;
+        }
+    }
+
+    /** Writes the start of each line to a temporary file that replaces the index when complete. */
+    private void writeIndex() throws IOException {
+        Path temporary = Files.createTempFile(this.indexFile.toAbsolutePath().getParent(), "words", ".idx");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temporary);
+                 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+                output.writeInt(INDEX_MAGIC);
+                output.writeInt(INDEX_VERSION);
+                output.writeLong(Files.size(this.file));
+                output.writeLong(Files.getLastModifiedTime(this.file).toMillis());
+                output.writeInt(countLines());
+                writeLineStarts(output);
+            }
+            Files.move(temporary, this.indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private int countLines() {
+        int count = 0;
+        int start = 0;
+        int limit = this.words.limit();
+        while (start < limit) {
+            count++;
+            start = lineEnd(start) + 1;
+        }
+        return count;
+    }
+
+    private void writeLineStarts(DataOutputStream output) throws IOException {
+        int start = 0;
+        int limit = this.words.limit();
+        while (start < limit) {
+            output.writeInt(start);
+            start = lineEnd(start) + 1;
+        }
+        output.writeInt(limit);
+    }
+
+    private int lineEnd(int start) {
+        int end = start;
+        int limit = this.words.limit();
+        while (end < limit && this.words.get(end) != '\n') {
+            end++;
+        }
+        return end;
+    }
+
+    @Override
+    public long size() {
+        return this.index.limit() - 1L;
+    }
+
+    /**
+     * Read word at the position.
+     * @param position between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public String readWord(long position) {
+        int line = normalized(position);
+        int start = this.index.get(line);
+        byte[] word = new byte[wordEnd(line) - start];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = this.words.get(start + i);
+        }
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    /** End of the word in the line (exclusive), without line delimiters. */
+    private int wordEnd(int line) {
+        int start = this.index.get(line);
+        int end = this.index.get(line + 1);
+        if (end > start && this.words.get(end - 1) == '\n') {
+            end--;
+        }
+        if (end > start && this.words.get(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Read words at the positions.
+     * @param positions between 0 and {@link #size()}-1.
+     * @return word at the position.
+     */
+    @Override
+    public List<String> readWords(Long... positions) {
+        List<String> result = new ArrayList<>(positions.length);
+        for (Long position : positions) {
+            result.add(readWord(position));
+        }
+        return result;
+    }
+
+    /**
+     * Position of a word by binary search over the mapped words.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained.
+     */
+    @Override
+    public long indexOf(String word) {
+        SortedIndex sorted = this.sortedIndex;
+        if (sorted == null) {
+            sorted = SortedIndex.of((int) size(), this::compare);
+            this.sortedIndex = sorted;
+        }
+        byte[] encoded = word.getBytes(StandardCharsets.UTF_8);
+        return sorted.find(line -> compare(line, encoded));
+    }
+
+    /** Compares the words of two lines, by unsigned bytes as in UTF-8 order. */
+    private int compare(int line, int other) {
+        int start = this.index.get(line);
+        int length = wordEnd(line) - start;
+        int otherStart = this.index.get(other);
+        int otherLength = wordEnd(other) - otherStart;
+        for (int i = 0; i < Math.min(length, otherLength); i++) {
+            int compared = (this.words.get(start + i) & 0xFF) - (this.words.get(otherStart + i) & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return length - otherLength;
+    }
+
+    /** Compares the word of a line with an encoded word, by unsigned bytes as in UTF-8 order. */
+    private int compare(int line, byte[] other) {
+        int start = this.index.get(line);
+        int length = wordEnd(line) - start;
+        for (int i = 0; i < Math.min(length, other.length); i++) {
+            int compared = (this.words.get(start + i) & 0xFF) - (other[i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return length - other.length;
+    }
+
+    protected int normalized(long position) {
+        return (int) Math.min(Math.max(0, position), size() - 1);
+    }
+}
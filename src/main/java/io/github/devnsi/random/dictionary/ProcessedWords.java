@@ -0,0 +1,35 @@
+package io.github.devnsi.random.dictionary;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * View of a dictionary with every word transformed once, for transformations that only depend on the word.
+ * <p>
+ * All words are read in one go and transformed when the view is created, and held encoded like {@link CompactWords}.
+ * Decoded words are cached, so reads are pure lookups once warm.
+ */
+public class ProcessedWords extends CompactWords {
+
+    /**
+     * Transforms all words of a dictionary.
+     * @param source dictionary to read the words from.
+     * @param processor to transform each word, applied once per word.
+     */
+    public ProcessedWords(Dictionary source, UnaryOperator<String> processor) {
+        super(layout(source, processor), true);
+    }
+
+    private static Layout layout(Dictionary source, UnaryOperator<String> processor) {
+        int size = Math.toIntExact(source.size());
+        long[] positions = new long[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        String[] words = new String[size];
+        source.readWords(positions, words);
+        for (int i = 0; i < size; i++) {
+            words[i] = processor.apply(words[i]);
+        }
+        return Layout.ofWords(words);
+    }
+}
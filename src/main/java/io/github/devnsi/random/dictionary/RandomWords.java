@@ -2,10 +2,32 @@ package io.github.devnsi.random.dictionary;
 
 /**
  * Selection of english words contained in the library.
+ * <p>
+ * Words are precompiled from {@code random-ids/words.txt} during the build. If the precompiled words are missing, for
+ * example when run from sources without the build, the text is read instead.
  */
-public class RandomWords extends ResourceWords {
+public class RandomWords extends BinaryWords {
+
+    /** Path of the precompiled words. */
+    private static final String BINARY = "random-ids/words.bin";
+
+    /** Path of the words the precompiled words are compiled from. */
+    private static final String TEXT = "random-ids/words.txt";
 
     public RandomWords() {
-        super("random-ids/words.txt");
+        super(layout(), true);
+    }
+
+    /**
+     * Path of the resource the words are read from.
+     * @return path of the precompiled words if available, of the text otherwise.
+     */
+    static String path() {
+        return Resources.exists(BINARY) ? BINARY : TEXT;
+    }
+
+    private static Layout layout() {
+        String path = path();
+        return path.equals(BINARY) ? read(path) : Layout.ofLines(Resources.readBytes(path));
     }
 }
@@ -8,25 +8,24 @@ import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Access to a word list in resources.
  * <p>
- * Resource file is expected to be newline-delimited.
+ * Resource file is expected to be newline-delimited. Words are counted within the same pass as the first read of
+ * words, or by the first call to {@link #size()} before, so construction only checks that the resource exists.
  */
 public class ResourceWords implements Dictionary {
 
-    /** Amount of distinct words available. */
-    protected final long amount;
+    /** Amount of distinct words available, -1 until counted by {@link #size()} or the first read. */
+    protected volatile long amount = -1;
     protected final String resourcePath;
 
     public ResourceWords(String path) {
+        Resources.require(path);
         this.resourcePath = path;
-        this.amount = countWords();
     }
 
     /** Determined amount of words in the dictionary. */
@@ -42,23 +41,30 @@ public class ResourceWords implements Dictionary {
         InputStream input = getRessource();
         Reader reader = new InputStreamReader(input);
         try (LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
-            lineNumberReader.skip(Long.MAX_VALUE);
-            return lineNumberReader.getLineNumber();
+            return countRemaining(lineNumberReader);
         }
     }
 
+    /** Reads the remaining lines, counting lines as {@link LineNumberReader#readLine()} like the reads of words. */
+    private static int countRemaining(LineNumberReader reader) throws IOException {
+        while (reader.readLine() != null) {
+            // only counted.
+        }
+        return reader.getLineNumber();
+    }
+
     private InputStream getRessource() {
-        ClassLoader cls = Thread.currentThread().getContextClassLoader();
-        InputStream resource = cls.getResourceAsStream(this.resourcePath);
-        return Optional.ofNullable(resource).orElseThrow(() -> {
-            String message = String.format("could not find resource %s", this.resourcePath);
-            return new IllegalStateException(message);
-        });
+        return Resources.open(this.resourcePath);
     }
 
     @Override
     public long size() {
-        return this.amount;
+        long amount = this.amount;
+        if (amount < 0) {
+            amount = countWords();
+            this.amount = amount;
+        }
+        return amount;
     }
 
     /**
@@ -78,21 +84,83 @@ public class ResourceWords implements Dictionary {
      */
     @Override
     public List<String> readWords(Long... positions) {
-        LinkedList<Long> sorted = Arrays.stream(positions)
-                .map(this::normalized)
-                .collect(Collectors.toCollection(LinkedList::new));
+        long[] unboxed = Arrays.stream(positions).mapToLong(Long::longValue).toArray();
+        String[] words = new String[unboxed.length];
+        readWords(unboxed, words);
+        return new ArrayList<>(Arrays.asList(words));
+    }
+
+    /**
+     * Read words at the positions within a single pass over the resource.
+     * @param positions between 0 and {@link #size()}-1.
+     * @param words to be filled with the word of the position at the same index.
+     */
+    @Override
+    public void readWords(long[] positions, String[] words) {
         InputStream input = getRessource();
         Reader reader = new InputStreamReader(input);
         try (LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
-            return readWordTry(sorted, lineNumberReader);
+            readWordsTry(positions, words, lineNumberReader);
         } catch (IOException exception) {
             String message = String.format("could not read resource %s", this.resourcePath);
             throw new IllegalStateException(message, exception);
         }
     }
 
-    protected long normalized(long position) {
-        return Math.min(Math.max(0, position), this.amount - 1);
+    /**
+     * Resolves the positions in order of the lines, each line is only read once. Positions beyond the last line resolve
+     * to the last line. If the words are not counted yet, the rest of the resource is read to count them.
+     * @param positions of the requested words.
+     * @param words to be filled with the word of the position at the same index.
+     * @param reader to read the words.
+     * @throws IOException while reading the dictionary source.
+     */
+    protected void readWordsTry(long[] positions, String[] words, LineNumberReader reader) throws IOException {
+        long[] lookups = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            long line = Math.min(Math.max(0, positions[i]), Integer.MAX_VALUE);
+            lookups[i] = line << 32 | i; // line in upper, index in lower half.
+        }
+        Arrays.sort(lookups);
+
+        String word = null;
+        for (long lookup : lookups) {
+            long line = lookup >>> 32;
+            while (reader.getLineNumber() <= line) { // lines are 1-indexed in stream.
+                String next = reader.readLine();
+                if (next == null) {
+                    break;
+                }
+                word = next;
+            }
+            words[(int) lookup] = word;
+        }
+        if (this.amount < 0) {
+            this.amount = countRemaining(reader);
+        }
+    }
+
+    /**
+     * Position of a word within a single pass over the resource.
+     * @param word to look up.
+     * @return position of the word between 0 and {@link #size()}-1, or -1 if not contained.
+     */
+    @Override
+    public long indexOf(String word) {
+        InputStream input = getRessource();
+        Reader reader = new InputStreamReader(input);
+        try (LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
+            String line;
+            while ((line = lineNumberReader.readLine()) != null) {
+                if (line.equals(word)) {
+                    return lineNumberReader.getLineNumber() - 1L; // lines are 1-indexed in stream.
+                }
+            }
+            return -1;
+        } catch (IOException exception) {
+            String message = String.format("could not read resource %s", this.resourcePath);
+            throw new IllegalStateException(message, exception);
+        }
     }
 
     /**
@@ -101,7 +169,9 @@ public class ResourceWords implements Dictionary {
      * @param reader to read the words.
      * @return words corresponding to the positions.
      * @throws IOException while reading the dictionary source.
+     * @deprecated replaced by {@link #readWordsTry(long[], String[], LineNumberReader)}, no longer called.
      */
+    @Deprecated
     protected static List<String> readWordTry(List<Long> positions, LineNumberReader reader) throws IOException {
         List<String> words = initializeWithValues(positions);
         Iterator<Long> lookup = positions.stream()
@@ -118,6 +188,28 @@ public class ResourceWords implements Dictionary {
         return words;
     }
 
+    /**
+     * @deprecated only used by {@link #readWordTry(List, LineNumberReader)}.
+     */
+    @Deprecated
+    protected static List<String> initializeWithValues(List<Long> positions) {
+        return positions.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toCollection(() -> new ArrayList<>(positions.size())));
+    }
+
+    /**
+     * @deprecated only used by {@link #readWordTry(List, LineNumberReader)}.
+     */
+    @Deprecated
+    protected static void replaceAll(List<String> words, long position, String resolved) {
+        words.replaceAll(s -> s.equals(String.valueOf(position - 1)) ? resolved : s);
+    }
+
+    protected long normalized(long position) {
+        return Math.min(Math.max(0, position), size() - 1);
+    }
+
     protected static String seekNext(LineNumberReader reader, long lookupNext) throws IOException {
         String line;
         boolean continueSeeking;
@@ -129,14 +221,4 @@ public class ResourceWords implements Dictionary {
         } while (continueSeeking);
         return line;
     }
-
-    protected static List<String> initializeWithValues(List<Long> positions) {
-        return positions.stream()
-                .map(String::valueOf)
-                .collect(Collectors.toCollection(() -> new ArrayList<>(positions.size())));
-    }
-
-    protected static void replaceAll(List<String> words, long position, String resolved) {
-        words.replaceAll(s -> s.equals(String.valueOf(position - 1)) ? resolved : s);
-    }
 }
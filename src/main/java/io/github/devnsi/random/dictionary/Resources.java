@@ -0,0 +1,95 @@
+package io.github.devnsi.random.dictionary;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Access to files in resources of the current context.
+ */
+final class Resources {
+
+    private Resources() {
+        // hide constructor for static class.
+    }
+
+    /**
+     * Checks that a resource exists without reading it.
+     * @param path of the resource.
+     * @throws IllegalStateException if the resource does not exist.
+     */
+    static void require(String path) {
+        if (!exists(path)) {
+            throw new IllegalStateException(String.format("could not find resource %s", path));
+        }
+    }
+
+    /**
+     * Whether a resource exists, without reading it.
+     * @param path of the resource.
+     * @return whether the resource exists.
+     */
+    static boolean exists(String path) {
+        return Thread.currentThread().getContextClassLoader().getResource(path) != null;
+    }
+
+    /**
+     * Opens the resource with the context class loader.
+     * @param path of the resource.
+     * @return stream of the resource, to be closed by the caller.
+     */
+    static InputStream open(String path) {
+        ClassLoader cls = Thread.currentThread().getContextClassLoader();
+        InputStream resource = cls.getResourceAsStream(path);
+        return Optional.ofNullable(resource).orElseThrow(() -> {
+            String message = String.format("could not find resource %s", path);
+            return new IllegalStateException(message);
+        });
+    }
+
+    /**
+     * Reads all lines of a newline-delimited resource.
+     * @param path of the resource.
+     * @return lines in order of the resource.
+     */
+    static List<String> readLines(String path) {
+        InputStream input = open(path);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+            return lines;
+        } catch (IOException exception) {
+            String message = String.format("could not read resource %s", path);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    /**
+     * Reads the complete content of a resource.
+     * @param path of the resource.
+     * @return bytes of the resource.
+     */
+    static byte[] readBytes(String path) {
+        try (InputStream input = open(path)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(input.available(), 8192));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        } catch (IOException exception) {
+            String message = String.format("could not read resource %s", path);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+}
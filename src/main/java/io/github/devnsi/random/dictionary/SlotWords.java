@@ -0,0 +1,155 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Word lists for each word of an identifier, for patterns like adjective-adjective-noun.
+ * <p>
+ * The words of all slots are flattened into a single dictionary when created, held encoded like {@link CompactWords}
+ * slot after slot. Each slot owns a range of positions, the generator draws each word of an identifier from the range
+ * of its slot and reads all words with a single lookup. Slots may share a word list, its words are held once per slot.
+ */
+public class SlotWords extends CompactWords {
+
+    /** Adjectives contained in the library. */
+    public static final String ADJECTIVES = "random-ids/adjectives.txt";
+
+    /** Nouns contained in the library. */
+    public static final String NOUNS = "random-ids/nouns.txt";
+
+    /** Verbs in third person singular contained in the library. */
+    public static final String VERBS = "random-ids/verbs.txt";
+
+    /** First position of each slot, followed by the size of the dictionary. */
+    private final long[] starts;
+
+    /** Order of the words of each slot for reverse lookups, created on first lookup. */
+    private final SortedIndex[] indexes;
+
+    /**
+     * Word lists in resources for each slot.
+     * @param paths of the newline-delimited resource of each slot, for example {@link #ADJECTIVES}.
+     * @throws IllegalArgumentException if no slot is given.
+     * @throws IllegalStateException if a word list is empty.
+     */
+    public SlotWords(String... paths) {
+        this(load(paths));
+    }
+
+    /**
+     * Word lists of dictionaries for each slot.
+     * @param slots dictionary of each slot, read completely.
+     * @throws IllegalArgumentException if no slot is given.
+     * @throws IllegalStateException if a dictionary is empty.
+     */
+    public SlotWords(Dictionary... slots) {
+        this(flatten(slots), starts(slots), false);
+    }
+
+    private SlotWords(Layout layout, long[] starts, boolean cached) {
+        super(layout, cached);
+        this.starts = starts;
+        this.indexes = new SortedIndex[starts.length - 1];
+    }
+
+    private static Dictionary[] load(String[] paths) {
+        Map<String, Dictionary> loaded = new HashMap<>();
+        Dictionary[] slots = new Dictionary[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            slots[i] = loaded.computeIfAbsent(paths[i], CompactWords::new);
+        }
+        return slots;
+    }
+
+    private static long[] starts(Dictionary[] slots) {
+        if (slots.length == 0) {
+            throw new IllegalArgumentException("at least one slot is required");
+        }
+        long[] starts = new long[slots.length + 1];
+        for (int i = 0; i < slots.length; i++) {
+            long size = slots[i].size();
+            if (size < 1) {
+                throw new IllegalStateException(String.format("no words in slot %d", i));
+            }
+            starts[i + 1] = starts[i] + size;
+        }
+        return starts;
+    }
+
+    private static Layout flatten(Dictionary[] slots) {
+        long[] starts = starts(slots);
+        String[] words = new String[Math.toIntExact(starts[slots.length])];
+        for (int i = 0; i < slots.length; i++) {
+            long[] positions = new long[(int) (starts[i + 1] - starts[i])];
+            for (int j = 0; j < positions.length; j++) {
+                positions[j] = j;
+            }
+            String[] slotWords = new String[positions.length];
+            slots[i].readWords(positions, slotWords);
+            System.arraycopy(slotWords, 0, words, (int) starts[i], slotWords.length);
+        }
+        return Layout.ofWords(words);
+    }
+
+    /**
+     * Slots with every word transformed once, see {@link ProcessedWords}.
+     * @param processor to transform each word, applied once per word.
+     * @return transformed slots.
+     */
+    public SlotWords processed(UnaryOperator<String> processor) {
+        String[] words = new String[(int) size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = processor.apply(decode(i));
+        }
+        return new SlotWords(Layout.ofWords(words), this.starts, true);
+    }
+
+    /**
+     * Amount of slots, being the amount of words of an identifier.
+     * @return amount of slots.
+     */
+    public int slots() {
+        return this.indexes.length;
+    }
+
+    /**
+     * Position of the first word of a slot.
+     * @param slot between 0 and {@link #slots()}-1.
+     * @return position in the dictionary.
+     */
+    public long slotStart(int slot) {
+        return this.starts[slot];
+    }
+
+    /**
+     * Amount of words of a slot.
+     * @param slot between 0 and {@link #slots()}-1.
+     * @return amount of words.
+     */
+    public long slotSize(int slot) {
+        return this.starts[slot + 1] - this.starts[slot];
+    }
+
+    /**
+     * Position of a word within the range of a slot.
+     * @param slot between 0 and {@link #slots()}-1.
+     * @param word to look up.
+     * @return position of the word in the dictionary, or -1 if not contained in the slot.
+     */
+    public long indexOf(int slot, String word) {
+        int start = (int) this.starts[slot];
+        SortedIndex sorted = this.indexes[slot];
+        if (sorted == null) {
+            int size = (int) slotSize(slot);
+            sorted = SortedIndex.of(size, (a, b) -> compare(start + a, this.data, this.offsets[start + b],
+                    this.offsets[start + b + 1]));
+            this.indexes[slot] = sorted; // racy but benign, as the index is immutable.
+        }
+        byte[] encoded = word.getBytes(StandardCharsets.UTF_8);
+        long position = sorted.find(index -> compare(start + index, encoded, 0, encoded.length));
+        return position < 0 ? -1 : start + position;
+    }
+}
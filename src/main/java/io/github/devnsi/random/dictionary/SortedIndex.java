@@ -0,0 +1,70 @@
+package io.github.devnsi.random.dictionary;
+
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Order of the words of a dictionary to look up positions by binary search.
+ * <p>
+ * Word lists that are already sorted are searched directly, otherwise the positions are sorted once by their words.
+ */
+final class SortedIndex {
+
+    /** Compares the words at two positions. */
+    interface Order {
+
+        int compare(int a, int b);
+    }
+
+    /** Positions in order of their words, {@code null} if the positions are in order already. */
+    private final int[] order;
+    private final int size;
+
+    private SortedIndex(int[] order, int size) {
+        this.order = order;
+        this.size = size;
+    }
+
+    /**
+     * Determines the order of the words.
+     * @param size amount of words.
+     * @param order of the words at two positions.
+     * @return index of the words.
+     */
+    static SortedIndex of(int size, Order order) {
+        for (int i = 1; i < size; i++) {
+            if (order.compare(i - 1, i) > 0) {
+                int[] sorted = IntStream.range(0, size)
+                        .boxed()
+                        .sorted(order::compare)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                return new SortedIndex(sorted, size);
+            }
+        }
+        return new SortedIndex(null, size);
+    }
+
+    /**
+     * Searches the position of a word.
+     * @param comparison of the word at a position to the searched word.
+     * @return position of the word, or -1 if not contained.
+     */
+    long find(IntUnaryOperator comparison) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = this.order == null ? middle : this.order[middle];
+            int compared = comparison.applyAsInt(position);
+            if (compared < 0) {
+                low = middle + 1;
+            } else if (compared > 0) {
+                high = middle - 1;
+            } else {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
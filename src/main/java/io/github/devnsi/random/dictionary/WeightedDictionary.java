@@ -0,0 +1,14 @@
+package io.github.devnsi.random.dictionary;
+
+/**
+ * Dictionary with a relative weight for each word, by which words are drawn more or less often than others.
+ */
+public interface WeightedDictionary extends Dictionary {
+
+    /**
+     * Relative weight of the word at the position, for example its frequency in a corpus.
+     * @param position between 0 and {@link #size}-1.
+     * @return weight, not negative.
+     */
+    double weight(long position);
+}
@@ -0,0 +1,96 @@
+package io.github.devnsi.random.dictionary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Access to a word list in resources with a weight for each word, held in memory like {@link CompactWords}.
+ * <p>
+ * Resource file is expected to be newline-delimited and UTF-8 encoded, each line being a word optionally followed by a
+ * tab and its weight, for example {@code word<TAB>frequency}. Words without weight have a weight of 1. Weights are kept
+ * as {@code float} in 4 bytes per word.
+ */
+public class WeightedWords extends CompactWords implements WeightedDictionary {
+
+    /** Weight of each word by position. */
+    protected final float[] weights;
+
+    public WeightedWords(String path) {
+        this(path, false);
+    }
+
+    /**
+     * Access to a weighted word list in resources.
+     * @param path of the newline-delimited resource of words and weights.
+     * @param cached whether decoded words are kept for subsequent reads.
+     * @throws IllegalStateException if a weight is malformed, negative or not finite.
+     */
+    public WeightedWords(String path, boolean cached) {
+        this(Weighted.ofLines(Resources.readBytes(path), path), cached);
+    }
+
+    private WeightedWords(Weighted weighted, boolean cached) {
+        super(weighted.layout, cached);
+        this.weights = weighted.weights;
+    }
+
+    @Override
+    public double weight(long position) {
+        return this.weights[normalized(position)];
+    }
+
+    /** Words laid out without their weights, and the weights by position. */
+    private static final class Weighted {
+
+        final Layout layout;
+        final float[] weights;
+
+        private Weighted(Layout layout, float[] weights) {
+            this.layout = layout;
+            this.weights = weights;
+        }
+
+        /**
+         * Splits each line at the first tab into the word and its weight.
+         * @param lines newline-delimited content, which is overwritten.
+         * @param path of the resource, for error messages.
+         * @return compacted words and weights.
+         */
+        static Weighted ofLines(byte[] lines, String path) {
+            Layout layout = Layout.ofLines(lines);
+            byte[] data = layout.data;
+            int[] offsets = layout.offsets;
+            int size = offsets.length - 1;
+            float[] weights = new float[size];
+            int position = 0;
+            for (int i = 0; i < size; i++) {
+                int start = offsets[i];
+                int end = offsets[i + 1];
+                int tab = start;
+                while (tab < end && data[tab] != '\t') {
+                    tab++;
+                }
+                weights[i] = tab == end ? 1 : parseWeight(data, tab + 1, end, i, path);
+                offsets[i] = position;
+                System.arraycopy(data, start, data, position, tab - start);
+                position += tab - start;
+            }
+            offsets[size] = position;
+            return new Weighted(new Layout(Arrays.copyOf(data, position), offsets), weights);
+        }
+
+        private static float parseWeight(byte[] data, int from, int to, int line, String path) {
+            String text = new String(data, from, to - from, StandardCharsets.UTF_8).trim();
+            try {
+                float weight = Float.parseFloat(text);
+                if (weight >= 0 && !Float.isInfinite(weight)) {
+                    return weight;
+                }
+            } catch (NumberFormatException exception) {
+                // reported below.
+            }
+            String message = String.format("invalid weight '%s' in line %d of %s", text, line + 1, path);
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.devnsi.random.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Converts a newline-delimited word list to the binary format read by {@link BinaryWords}, or to the front-coded
+ * format read by {@link FrontCodedWords}.
+ * <p>
+ * Used during the build to precompile the word list contained in the library, usage:
+ * {@code WordsConverter [--front-coded] <words.txt> <words.bin>}.
+ */
+public final class WordsConverter {
+
+    private WordsConverter() {
+        // hide constructor for static class.
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean frontCoded = args.length == 3 && "--front-coded".equals(args[0]);
+        if (args.length != 2 && !frontCoded) {
+            throw new IllegalArgumentException("usage: WordsConverter [--front-coded] <words.txt> <words.bin>");
+        }
+        Path source = Paths.get(args[args.length - 2]);
+        Path target = Paths.get(args[args.length - 1]);
+        if (frontCoded) {
+            convertFrontCoded(source, target);
+        } else {
+            convert(source, target);
+        }
+    }
+
+    /**
+     * Converts a word list to the binary format.
+     * @param source newline-delimited word list.
+     * @param target to write the binary word list to, replaced if existing.
+     * @throws IOException while reading the source or writing the target.
+     */
+    public static void convert(Path source, Path target) throws IOException {
+        CompactWords.Layout layout = CompactWords.Layout.ofLines(Files.readAllBytes(source));
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (OutputStream stream = Files.newOutputStream(target)) {
+            write(layout, stream);
+        }
+    }
+
+    /**
+     * Converts a word list to the front-coded format.
+     * @param source newline-delimited word list.
+     * @param target to write the front-coded word list to, replaced if existing.
+     * @throws IOException while reading the source or writing the target.
+     * @throws IllegalStateException if the word list is empty.
+     */
+    public static void convertFrontCoded(Path source, Path target) throws IOException {
+        CompactWords.Layout layout = CompactWords.Layout.ofLines(Files.readAllBytes(source));
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (OutputStream stream = Files.newOutputStream(target)) {
+            FrontCodedWords.write(layout, new DataOutputStream(new BufferedOutputStream(stream)));
+        }
+    }
+
+    static void write(CompactWords.Layout layout, OutputStream stream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+        output.writeInt(BinaryWords.MAGIC);
+        output.writeInt(BinaryWords.VERSION);
+        output.writeInt(layout.offsets.length - 1);
+        output.writeInt(layout.data.length);
+        for (int offset : layout.offsets) {
+            output.writeInt(offset);
+        }
+        output.write(layout.data);
+        output.flush();
+    }
+}
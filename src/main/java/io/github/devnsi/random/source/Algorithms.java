@@ -0,0 +1,23 @@
+package io.github.devnsi.random.source;
+
+/**
+ * Sources by name of their algorithm.
+ * <p>
+ * Replaced on Java 17 or later to support the algorithms of {@code java.util.random.RandomGeneratorFactory}.
+ */
+final class Algorithms {
+
+    private Algorithms() {
+    }
+
+    static RandomSource create(String algorithm, long seed) {
+        switch (algorithm) {
+            case "SplittableRandom":
+                return new SplittableSource(seed);
+            case "Xoshiro256StarStar":
+                return new XoshiroSource(seed);
+            default:
+                throw new IllegalArgumentException(String.format("unsupported algorithm %s", algorithm));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.devnsi.random.source;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random number generator that draws from a separate generator for each thread, without contention between threads.
+ * <p>
+ * Without seed, each thread uses its {@link ThreadLocalRandom}. With seed, each thread uses a {@link SplittableRandom}
+ * split from a seeded root on first use. Seeded results are reproducible within a thread, and across threads given
+ * the same order in which threads first draw.
+ */
+public class ConcurrentRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Source of the generators of each thread, if seeded. */
+    private final transient SplittableRandom root;
+    private final transient ThreadLocal<SplittableRandom> randoms;
+
+    /** Whether construction is completed, as the seed is set during construction. */
+    private final boolean initialized;
+
+    /**
+     * Concurrent random without seed, based on {@link ThreadLocalRandom}.
+     */
+    public ConcurrentRandom() {
+        this.root = null;
+        this.randoms = null;
+        this.initialized = true;
+    }
+
+    /**
+     * Concurrent random with seed, based on {@link SplittableRandom}.
+     * @param seed to create reproducible results.
+     */
+    public ConcurrentRandom(long seed) {
+        this.root = new SplittableRandom(seed);
+        this.randoms = ThreadLocal.withInitial(this::split);
+        this.initialized = true;
+    }
+
+    private SplittableRandom split() {
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
+
+    /**
+     * Not supported, as the seed can only be set on construction.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        if (this.initialized) {
+            throw new UnsupportedOperationException("seed can only be set on construction");
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return this.randoms == null ? ThreadLocalRandom.current().nextLong() : this.randoms.get().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return this.randoms == null ? ThreadLocalRandom.current().nextInt() : this.randoms.get().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return this.randoms == null ? ThreadLocalRandom.current().nextInt(bound) : this.randoms.get().nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return this.randoms == null ? ThreadLocalRandom.current().nextDouble() : this.randoms.get().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return this.randoms == null ? ThreadLocalRandom.current().nextBoolean() : this.randoms.get().nextBoolean();
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.devnsi.random.source;
+
+/**
+ * Source that draws from a separate source for each thread, split from a root source on first use.
+ * <p>
+ * Thread-safe.
+ */
+final class PerThreadSource implements RandomSource {
+
+    private final RandomSource root;
+    private final ThreadLocal<RandomSource> sources;
+
+    PerThreadSource(RandomSource root) {
+        this.root = root;
+        this.sources = ThreadLocal.withInitial(this::splitRoot);
+    }
+
+    private RandomSource splitRoot() {
+        synchronized (this.root) {
+            return this.root.split();
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        return this.sources.get().nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        return this.sources.get().split();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.devnsi.random.source;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * Source drawing from a {@link Random}, split into new {@link Random} instances seeded by the adapted random.
+ * <p>
+ * A {@link SecureRandom} is split into a {@link SecureSource} drawing from it, so splits are never weaker than the
+ * adapted random.
+ */
+final class RandomAdapter implements RandomSource {
+
+    private final Random random;
+
+    RandomAdapter(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        if (this.random instanceof SecureRandom) {
+            return new SecureSource((SecureRandom) this.random);
+        }
+        return new RandomAdapter(new Random(this.random.nextLong()));
+    }
+}
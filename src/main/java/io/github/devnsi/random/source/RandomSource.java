@@ -0,0 +1,58 @@
+package io.github.devnsi.random.source;
+
+import java.util.Random;
+
+/**
+ * Source of random {@code long} values from which identifiers are drawn.
+ * <p>
+ * Implementations are not thread-safe unless stated otherwise, use {@link #perThread(RandomSource)} to share a source
+ * between threads.
+ */
+public interface RandomSource {
+
+    /**
+     * Draws the next random value.
+     * @return uniformly distributed value of all 64 bits.
+     */
+    long nextLong();
+
+    /**
+     * Creates an independent source, for example for another thread or chunk of identifiers.
+     * <p>
+     * Splitting a seeded source produces the same sources in the same order.
+     * @return new source not sharing state with this source.
+     */
+    RandomSource split();
+
+    /**
+     * Source drawing from a {@link Random}, thread-safe if the random is.
+     * @param random to draw from.
+     * @return adapted random.
+     */
+    static RandomSource of(Random random) {
+        return new RandomAdapter(random);
+    }
+
+    /**
+     * Source by name of its algorithm, being {@code SplittableRandom} or {@code Xoshiro256StarStar}.
+     * <p>
+     * On Java 17 or later, any algorithm of {@code java.util.random.RandomGeneratorFactory} is supported as well, for
+     * example {@code L64X128MixRandom}.
+     * @param algorithm name of the algorithm.
+     * @param seed to create reproducible results.
+     * @return seeded source.
+     * @throws IllegalArgumentException if the algorithm is not supported.
+     */
+    static RandomSource of(String algorithm, long seed) {
+        return Algorithms.create(algorithm, seed);
+    }
+
+    /**
+     * Thread-safe source that draws from a separate source for each thread, split from the given source on first use.
+     * @param root to split the sources of each thread from.
+     * @return source without contention between threads.
+     */
+    static RandomSource perThread(RandomSource root) {
+        return new PerThreadSource(root);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.devnsi.random.source;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+
+/**
+ * Source drawing from a {@link SecureRandom}, which fetches random bytes in bulk instead of for each value.
+ * <p>
+ * Thread-safe, each thread buffers its own bytes.
+ */
+public final class SecureSource implements RandomSource {
+
+    /** Amount of bytes fetched at once. */
+    private static final int BUFFER_SIZE = 512;
+
+    private final SecureRandom random;
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(SecureSource::emptyBuffer);
+
+    /**
+     * Source drawing from the default {@link SecureRandom}.
+     */
+    public SecureSource() {
+        this(new SecureRandom());
+    }
+
+    /**
+     * Source drawing from the given random.
+     * @param random to fetch bytes from.
+     */
+    public SecureSource(SecureRandom random) {
+        this.random = random;
+    }
+
+    private static ByteBuffer emptyBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.position(buffer.limit());
+        return buffer;
+    }
+
+    @Override
+    public long nextLong() {
+        ByteBuffer buffer = this.buffers.get();
+        if (!buffer.hasRemaining()) {
+            this.random.nextBytes(buffer.array());
+            buffer.clear();
+        }
+        return buffer.getLong();
+    }
+
+    /**
+     * Returns this source, as secure random values are not reproducible anyway.
+     * @return this thread-safe source.
+     */
+    @Override
+    public RandomSource split() {
+        return this;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.devnsi.random.source;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source drawing from a {@link SplittableRandom}, which is fast and without synchronization.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SplittableSource implements RandomSource {
+
+    private final SplittableRandom random;
+
+    /**
+     * Source without seed.
+     */
+    public SplittableSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Source with seed.
+     * @param seed to create reproducible results.
+     */
+    public SplittableSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public long nextLong() {
+        return this.random.nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplittableSource(this.random.split());
+    }
+}
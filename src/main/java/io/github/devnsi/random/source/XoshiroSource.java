@@ -0,0 +1,91 @@
+package io.github.devnsi.random.source;
+
+/**
+ * Source by the xoshiro256** algorithm of Blackman and Vigna, with a period of 2^256 - 1.
+ * <p>
+ * Splitting hands the next 2^128 values over to the split source and jumps ahead, so sources split from one another
+ * never overlap. Not thread-safe.
+ */
+public final class XoshiroSource implements RandomSource {
+
+    /** Polynomial to advance the state by 2^128 values. */
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Source with seed, expanded to the state by SplitMix64.
+     * @param seed to create reproducible results.
+     */
+    public XoshiroSource(long seed) {
+        long z = seed;
+        this.s0 = mix(z += 0x9e3779b97f4a7c15L);
+        this.s1 = mix(z += 0x9e3779b97f4a7c15L);
+        this.s2 = mix(z += 0x9e3779b97f4a7c15L);
+        this.s3 = mix(z + 0x9e3779b97f4a7c15L);
+    }
+
+    /**
+     * Source with the given state, not all zero.
+     */
+    XoshiroSource(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /** Spreads the bits of the value (finalizer of SplitMix64). */
+    private static long mix(long z) {
+        z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+        return z ^ z >>> 31;
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(this.s1 * 5, 7) * 9;
+        long t = this.s1 << 17;
+        this.s2 ^= this.s0;
+        this.s3 ^= this.s1;
+        this.s1 ^= this.s2;
+        this.s0 ^= this.s3;
+        this.s2 ^= t;
+        this.s3 = Long.rotateLeft(this.s3, 45);
+        return result;
+    }
+
+    @Override
+    public RandomSource split() {
+        XoshiroSource split = new XoshiroSource(this.s0, this.s1, this.s2, this.s3);
+        jump();
+        return split;
+    }
+
+    private void jump() {
+        long j0 = 0;
+        long j1 = 0;
+        long j2 = 0;
+        long j3 = 0;
+        for (long jump : JUMP) {
+            for (int bit = 0; bit < 64; bit++) {
+                if ((jump & 1L << bit) != 0) {
+                    j0 ^= this.s0;
+                    j1 ^= this.s1;
+                    j2 ^= this.s2;
+                    j3 ^= this.s3;
+                }
+                nextLong();
+            }
+        }
+        this.s0 = j0;
+        this.s1 = j1;
+        this.s2 = j2;
+        this.s3 = j3;
+    }
+}
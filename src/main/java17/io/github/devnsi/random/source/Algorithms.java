@@ -0,0 +1,31 @@
+package io.github.devnsi.random.source;
+
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Sources by name of their algorithm, including the algorithms of {@link RandomGeneratorFactory}.
+ */
+final class Algorithms {
+
+    private Algorithms() {
+    }
+
+    static RandomSource create(String algorithm, long seed) {
+        switch (algorithm) {
+            case "SplittableRandom":
+                return new SplittableSource(seed);
+            case "Xoshiro256StarStar":
+                return new XoshiroSource(seed);
+            default:
+                return new GeneratorSource(factory(algorithm), seed);
+        }
+    }
+
+    private static RandomGeneratorFactory<?> factory(String algorithm) {
+        try {
+            return RandomGeneratorFactory.of(algorithm);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(String.format("unsupported algorithm %s", algorithm), exception);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.devnsi.random.source;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Source drawing from a {@link RandomGenerator} of Java 17 or later.
+ * <p>
+ * Splittable generators are split, others are split into new generators seeded by this generator. Not thread-safe.
+ */
+final class GeneratorSource implements RandomSource {
+
+    private final RandomGeneratorFactory<?> factory;
+    private final RandomGenerator generator;
+
+    GeneratorSource(RandomGeneratorFactory<?> factory, long seed) {
+        this(factory, factory.create(seed));
+    }
+
+    private GeneratorSource(RandomGeneratorFactory<?> factory, RandomGenerator generator) {
+        this.factory = factory;
+        this.generator = generator;
+    }
+
+    @Override
+    public long nextLong() {
+        return this.generator.nextLong();
+    }
+
+    @Override
+    public RandomSource split() {
+        if (this.generator instanceof RandomGenerator.SplittableGenerator splittable) {
+            return new GeneratorSource(this.factory, splittable.split());
+        }
+        return new GeneratorSource(this.factory, this.factory.create(this.generator.nextLong()));
+    }
+}
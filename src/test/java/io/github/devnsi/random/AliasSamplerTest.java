@@ -0,0 +1,121 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.IndexedWords;
+import io.github.devnsi.random.dictionary.WeightedDictionary;
+import io.github.devnsi.random.dictionary.WeightedWords;
+import io.github.devnsi.random.source.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AliasSamplerTest {
+
+    @Test
+    void testWeighted() {
+        double[] weights = {50, 25.5, 12.5, 1, 0.5, 0, 9, 1, 1, 100};
+        AliasSampler sampler = new AliasSampler(weighted(weights), 1);
+        RandomSource random = RandomSource.of(new Random(0));
+        int samples = 1_000_000;
+        long[] counts = new long[weights.length];
+        for (int i = 0; i < samples; i++) {
+            counts[(int) sampler.next(random)]++;
+        }
+
+        double total = Arrays.stream(weights).sum();
+        double chiSquare = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = samples * weights[i] / total;
+            if (expected == 0) {
+                assertEquals(0, counts[i], "drawn word of weight 0");
+            } else {
+                chiSquare += (counts[i] - expected) * (counts[i] - expected) / expected;
+            }
+        }
+        // 8 degrees of freedom, exceeded by chance with a probability below 0.01 %.
+        assertTrue(chiSquare < 33.7, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testEqualWeights() {
+        double[] weights = new double[1000];
+        Arrays.fill(weights, 3);
+        AliasSampler sampler = new AliasSampler(weighted(weights), 3);
+        RandomSource random = RandomSource.of(new Random(0));
+        long[] positions = new long[4];
+        long[] counts = new long[weights.length];
+        for (int i = 0; i < 100_000; i++) {
+            sampler.fill(random, positions, 1);
+            for (int j = 1; j < 4; j++) {
+                counts[(int) positions[j]]++;
+            }
+        }
+
+        assertEquals(0, positions[0]);
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - 300.0) * (count - 300.0) / 300.0;
+        }
+        // 999 degrees of freedom, exceeded by chance with a probability below 0.01 %.
+        assertTrue(chiSquare < 1180, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrowsExactly(IllegalStateException.class, () -> new AliasSampler(weighted(new double[]{1, -1}), 1));
+        assertThrowsExactly(IllegalStateException.class, () -> new AliasSampler(weighted(new double[]{0, 0}), 1));
+        assertThrowsExactly(IllegalStateException.class,
+                () -> new AliasSampler(weighted(new double[]{1, Double.NaN}), 1));
+    }
+
+    @Test
+    void testGenerator() {
+        WeightedWords words = new WeightedWords("random-ids/words-weighted.txt");
+        RandomIdGen generator = new RandomIdGen("-", 2, new Random(0), words);
+        int the = 0;
+        for (String id : generator.next(10_000)) {
+            assertTrue(generator.isValid(id));
+            the += Collections.frequency(Arrays.asList(id.split("-")), "the");
+            assertTrue(!id.contains("never"), id);
+        }
+        // 50 of a total weight of 98.5.
+        assertEquals(50 / 98.5, the / 20_000.0, 0.02);
+    }
+
+    @Test
+    void testUniqueWithoutWeight() {
+        WeightedWords words = new WeightedWords("random-ids/words-weighted.txt");
+        RandomIdGen generator = new RandomIdGen("-", 1, new Random(0), words);
+        generator.setUnique(true);
+
+        assertEquals(6, generator.combinations());
+        assertEquals(6, generator.next(6).stream().distinct().count());
+        assertThrowsExactly(IllegalStateException.class, generator::next);
+    }
+
+    private static WeightedDictionary weighted(double[] weights) {
+        String[] words = new String[weights.length];
+        Arrays.setAll(words, Integer::toString);
+        return new Weighted(words, weights);
+    }
+
+    private static final class Weighted extends IndexedWords implements WeightedDictionary {
+
+        private final double[] weights;
+
+        Weighted(String[] words, double[] weights) {
+            super(Arrays.asList(words));
+            this.weights = weights;
+        }
+
+        @Override
+        public double weight(long position) {
+            return this.weights[(int) position];
+        }
+    }
+}
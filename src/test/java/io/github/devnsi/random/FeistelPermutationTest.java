@@ -0,0 +1,66 @@
+package io.github.devnsi.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeistelPermutationTest {
+
+    @Test
+    void testBijective() {
+        for (long size : new long[]{1, 2, 3, 26, 676, 1000, 4096, 10_007}) {
+            FeistelPermutation permutation = new FeistelPermutation(size, 42);
+            BitSet values = new BitSet();
+            for (long i = 0; i < size; i++) {
+                long value = permutation.apply(i);
+                assertTrue(value >= 0 && value < size, value + " must be within " + size);
+                values.set((int) value);
+            }
+            assertEquals(size, values.cardinality());
+        }
+    }
+
+    @Test
+    void testLargeRange() {
+        FeistelPermutation permutation = new FeistelPermutation(Long.MAX_VALUE - 1, 0);
+        long distinct = LongStream.range(0, 1000).map(permutation::apply).distinct().count();
+        assertEquals(1000, distinct);
+        assertTrue(LongStream.range(0, 1000).map(permutation::apply).allMatch(v -> v >= 0));
+    }
+
+    @Test
+    void testKeyed() {
+        FeistelPermutation a = new FeistelPermutation(1_000_000, 1);
+        FeistelPermutation b = new FeistelPermutation(1_000_000, 2);
+        FeistelPermutation aSame = new FeistelPermutation(1_000_000, 1);
+
+        long[] valuesA = LongStream.range(0, 10).map(a::apply).toArray();
+        assertArrayEquals(valuesA, LongStream.range(0, 10).map(aSame::apply).toArray());
+        assertFalse(Arrays.equals(valuesA, LongStream.range(0, 10).map(b::apply).toArray()));
+    }
+
+    @Test
+    void testInvert() {
+        for (long size : new long[]{1, 26, 676, 10_007, 1_000_000_000_000_000L}) {
+            FeistelPermutation permutation = new FeistelPermutation(size, 42);
+            for (long i = 0; i < Math.min(size, 1000); i++) {
+                assertEquals(i, permutation.invert(permutation.apply(i)));
+            }
+        }
+    }
+
+    @Test
+    void testOutOfRange() {
+        FeistelPermutation permutation = new FeistelPermutation(10, 0);
+        assertThrowsExactly(IllegalArgumentException.class, () -> permutation.apply(10));
+        assertThrowsExactly(IllegalArgumentException.class, () -> permutation.apply(-1));
+    }
+}
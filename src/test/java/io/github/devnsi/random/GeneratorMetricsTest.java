@@ -0,0 +1,89 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.IndexedWords;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneratorMetricsTest {
+
+    @Test
+    void testDisabled() {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(0));
+        generator.next();
+
+        assertNull(generator.getMetrics());
+    }
+
+    @Test
+    void testSnapshot() {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(0));
+        GeneratorMetrics metrics = generator.enableMetrics();
+        assertSame(metrics, generator.getMetrics());
+        for (int i = 0; i < 1000; i++) {
+            generator.next();
+        }
+        generator.writeTo(new byte[256], 0);
+        generator.next(5000);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(6001, snapshot.getIds());
+        assertEquals(1001, snapshot.getCalls());
+        assertEquals(2, snapshot.getBatches());
+        assertTrue(snapshot.getNextLatency().getCount() > 0);
+        assertTrue(snapshot.getNextLatency().getCount() < 1001);
+        assertEquals(2, snapshot.getBatchLatency().getCount());
+        assertTrue(snapshot.getNextLatency().getPercentileNanos(99) > 0);
+        assertTrue(snapshot.getDictionaryNanos() > 0);
+        assertTrue(snapshot.getDictionaryNanos() <= snapshot.getBatchLatency().getTotalNanos());
+        assertEquals(generator.combinations(), snapshot.getCombinations());
+
+        generator.disableMetrics();
+        generator.next();
+        assertEquals(6001, metrics.getIds());
+    }
+
+    @Test
+    void testCollisionProbability() {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(0), new IndexedWords("random-ids/words-test.txt"));
+        GeneratorMetrics metrics = generator.enableMetrics();
+        assertEquals(0.0, metrics.getCollisionProbability());
+
+        long combinations = generator.combinations();
+        long draws = Math.round(Math.sqrt(2 * combinations * Math.log(2)));
+        generator.next((int) draws);
+        assertEquals(0.5, metrics.getCollisionProbability(), 0.05);
+        assertEquals(0.5, metrics.snapshot().getCollisionProbability(), 0.05);
+    }
+
+    @Test
+    void testRegister() throws Exception {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(0));
+        GeneratorMetrics metrics = generator.enableMetrics();
+        generator.next();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = metrics.register("test");
+        try {
+            assertEquals(1L, server.getAttribute(name, "Ids"));
+            assertEquals(1L, server.getAttribute(name, "Calls"));
+            assertTrue((Long) server.getAttribute(name, "NextP99Nanos") >= 0);
+            assertThrowsExactly(IllegalStateException.class, () -> metrics.register("other"));
+            assertThrowsExactly(IllegalStateException.class, () -> generator.enableMetrics().register("test"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+        metrics.unregister();
+    }
+}
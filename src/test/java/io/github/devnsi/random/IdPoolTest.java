@@ -0,0 +1,85 @@
+package io.github.devnsi.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdPoolTest {
+
+    @Test
+    void testNext() throws InterruptedException {
+        try (IdPool pool = new IdPool(new RandomIdGen(), 16, 64)) {
+            awaitSize(pool, 64);
+            for (int i = 0; i < 64; i++) {
+                assertEquals(3, pool.next().split("-").length);
+            }
+
+            assertEquals(64, pool.getHits());
+            assertEquals(0, pool.getMisses());
+            assertEquals(1.0, pool.getHitRate());
+            awaitSize(pool, 16); // refilled once below the low watermark, the last ones may be taken after.
+        }
+    }
+
+    @Test
+    void testFallback() throws InterruptedException {
+        IdPool pool = new IdPool(new RandomIdGen(), 16, 64);
+        awaitSize(pool, 64);
+        pool.close();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3, pool.next().split("-").length);
+        }
+
+        assertEquals(64, pool.getHits());
+        assertEquals(36, pool.getMisses());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void testConcurrent() throws InterruptedException {
+        int threads = 4;
+        int amount = 10_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        RandomIdGen generator = new RandomIdGen();
+        generator.setUnique(true);
+        try (IdPool pool = new IdPool(generator, 256, 1024)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < amount; i++) {
+                        ids.add(pool.next());
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+            assertEquals(threads * amount, ids.size());
+            assertEquals(threads * amount, pool.getHits() + pool.getMisses());
+        }
+    }
+
+    @Test
+    void testWatermarks() {
+        RandomIdGen generator = new RandomIdGen("-", 3, new Random(0));
+        assertThrowsExactly(IllegalArgumentException.class, () -> new IdPool(generator, 64, 64));
+        assertThrowsExactly(IllegalArgumentException.class, () -> new IdPool(generator, -1, 64));
+    }
+
+    private static void awaitSize(IdPool pool, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(pool.size() >= size, pool.size() + " identifiers");
+    }
+}
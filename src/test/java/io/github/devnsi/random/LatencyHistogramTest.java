@@ -0,0 +1,61 @@
+package io.github.devnsi.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testBuckets() {
+        for (long value = 0; value < 1 << 16; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.highestOf(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.highestOf(bucket - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestOf(LatencyHistogram.BUCKETS - 1));
+    }
+
+    @Test
+    void testPrecision() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            long highest = LatencyHistogram.highestOf(LatencyHistogram.bucketOf(value));
+            assertTrue(highest - value <= value / 32, () -> value + " counted up to " + highest);
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 100L);
+        }
+        histogram.record(-1);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(100_000, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getPercentileNanos(0));
+        assertEquals(50_000, snapshot.getPercentileNanos(50), 50_000 / 32.0);
+        assertEquals(99_000, snapshot.getPercentileNanos(99), 99_000 / 32.0);
+        assertEquals(100_000, snapshot.getPercentileNanos(100));
+        assertEquals(50_050 * 1000 / 1001.0, snapshot.getMeanNanos(), 0.001);
+        assertThrowsExactly(IllegalArgumentException.class, () -> snapshot.getPercentileNanos(101));
+    }
+
+    @Test
+    void testEmpty() {
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getPercentileNanos(99));
+        assertEquals(0, snapshot.getMeanNanos());
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.IndexedWords;
+import io.github.devnsi.random.source.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LengthSamplerTest {
+
+    private final Dictionary dictionary = new IndexedWords(Arrays.asList("a", "bb", "ccc", "dddd", "ee", "f", "ggggg"));
+
+    @Test
+    void testUniform() {
+        LengthSampler sampler = new LengthSampler(this.dictionary, new long[3], new long[]{7, 7, 7}, 6);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int a = 0; a < 7; a++) {
+            for (int b = 0; b < 7; b++) {
+                for (int c = 0; c < 7; c++) {
+                    if (length(a) + length(b) + length(c) <= 6) {
+                        counts.put(a + "," + b + "," + c, 0);
+                    }
+                }
+            }
+        }
+        assertEquals(counts.size(), sampler.combinations());
+
+        int samples = counts.size() * 1000;
+        RandomSource random = RandomSource.of(new Random(0));
+        long[] positions = new long[3];
+        for (int i = 0; i < samples; i++) {
+            sampler.fill(random, positions, 0);
+            String key = positions[0] + "," + positions[1] + "," + positions[2];
+            assertTrue(counts.containsKey(key), key);
+            counts.merge(key, 1, Integer::sum);
+        }
+
+        double chiSquare = 0;
+        for (int count : counts.values()) {
+            chiSquare += (count - 1000.0) * (count - 1000.0) / 1000.0;
+        }
+        int freedom = counts.size() - 1;
+        // exceeded by chance with a probability below 0.01 %.
+        assertTrue(chiSquare < freedom + 4.5 * Math.sqrt(2 * freedom), "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testSlots() {
+        LengthSampler sampler = new LengthSampler(this.dictionary, new long[]{0, 4}, new long[]{4, 3}, 3);
+        RandomSource random = RandomSource.of(new Random(0));
+        long[] positions = new long[2];
+        for (int i = 0; i < 1000; i++) {
+            sampler.fill(random, positions, 0);
+            assertTrue(positions[0] < 4 && positions[1] >= 4, Arrays.toString(positions));
+            assertTrue(length((int) positions[0]) + length((int) positions[1]) <= 3);
+        }
+        // a with ee or f, bb with f.
+        assertEquals(3, sampler.combinations());
+    }
+
+    @Test
+    void testNoneFits() {
+        assertThrowsExactly(IllegalStateException.class,
+                () -> new LengthSampler(this.dictionary, new long[3], new long[]{7, 7, 7}, 2));
+    }
+
+    private int length(int position) {
+        return this.dictionary.readWord(position).length();
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.devnsi.random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void testAdd() {
+        LongHashSet set = new LongHashSet();
+        assertTrue(set.add(0L));
+        assertTrue(set.add(Long.MAX_VALUE));
+        assertFalse(set.add(0L));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    void testGrow() {
+        LongHashSet set = new LongHashSet();
+        for (long i = 0; i < 100_000; i++) {
+            assertTrue(set.add(i * 31));
+        }
+        for (long i = 0; i < 100_000; i++) {
+            assertFalse(set.add(i * 31));
+        }
+        assertEquals(100_000, set.size());
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.source.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionSamplerTest {
+
+    @Test
+    void testUniform() {
+        int bound = 6;
+        int amount = 3;
+        int samples = 216_000;
+        PositionSampler sampler = new PositionSampler(bound, amount);
+        RandomSource random = RandomSource.of(new Random(0));
+        long[] positions = new long[amount];
+        long[] counts = new long[bound * bound * bound];
+        for (int i = 0; i < samples; i++) {
+            sampler.fill(random, positions, 0);
+            counts[(int) (positions[0] * bound * bound + positions[1] * bound + positions[2])]++;
+        }
+
+        double expected = (double) samples / counts.length;
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // 215 degrees of freedom, exceeded by chance with a probability below 0.01 %.
+        assertTrue(chiSquare < 300, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testUniformSlots() {
+        long[] bounds = {3, 7, 5};
+        long[] starts = {0, 3, 10};
+        int samples = 105_000;
+        PositionSampler sampler = new PositionSampler(bounds, starts);
+        RandomSource random = RandomSource.of(new Random(0));
+        long[] positions = new long[3];
+        long[] counts = new long[3 * 7 * 5];
+        for (int i = 0; i < samples; i++) {
+            sampler.fill(random, positions, 0);
+            assertTrue(positions[1] >= 3 && positions[1] < 10 && positions[2] >= 10 && positions[2] < 15);
+            counts[(int) (positions[0] * 35 + (positions[1] - 3) * 5 + positions[2] - 10)]++;
+        }
+
+        assertEquals(3, sampler.perDraw());
+        double expected = (double) samples / counts.length;
+        double chiSquare = 0;
+        for (long count : counts) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        // 104 degrees of freedom, exceeded by chance with a probability below 0.01 %.
+        assertTrue(chiSquare < 165, "chi-square " + chiSquare);
+    }
+
+    @Test
+    void testUnbiasedLargeBound() {
+        long bound = 3L << 61;
+        PositionSampler sampler = new PositionSampler(bound, 1);
+        RandomSource random = RandomSource.of(new Random(0));
+        int samples = 100_000;
+        int below = 0;
+        for (int i = 0; i < samples; i++) {
+            long position = sampler.next(random);
+            assertTrue(position >= 0 && position < bound);
+            if (position < 1L << 61) {
+                below++;
+            }
+        }
+        // Math.abs(long) % bound would put half of all positions below 2^61.
+        assertEquals(1.0 / 3, (double) below / samples, 0.01);
+    }
+
+    @Test
+    void testSeveralPerDraw() {
+        int[] draws = new int[1];
+        RandomSource random = RandomSource.of(new Random(0) {
+            @Override
+            public long nextLong() {
+                draws[0]++;
+                return super.nextLong();
+            }
+        });
+        PositionSampler sampler = new PositionSampler(117_000, 5);
+        long[] positions = new long[5];
+        for (int i = 0; i < 1000; i++) {
+            sampler.fill(random, positions, 0);
+            for (long position : positions) {
+                assertTrue(position >= 0 && position < 117_000);
+            }
+        }
+
+        assertEquals(3, sampler.perDraw());
+        assertTrue(draws[0] < 2010, draws[0] + " draws");
+    }
+
+    @Test
+    void testExtremeValues() {
+        RandomSource random = RandomSource.of(new Random(0) {
+            private boolean extreme;
+
+            @Override
+            public long nextLong() {
+                this.extreme = !this.extreme;
+                return this.extreme ? Long.MIN_VALUE : super.nextLong();
+            }
+        });
+        PositionSampler sampler = new PositionSampler(10, 3);
+        long[] positions = new long[3];
+        for (int i = 0; i < 100; i++) {
+            sampler.fill(random, positions, 0);
+            for (long position : positions) {
+                assertTrue(position >= 0 && position < 10);
+            }
+            long position = sampler.next(random);
+            assertTrue(position >= 0 && position < 10);
+        }
+    }
+
+    @Test
+    void testSingleWord() {
+        PositionSampler sampler = new PositionSampler(1, 3);
+        long[] positions = {-1, -1, -1};
+        sampler.fill(RandomSource.of(new Random(0)), positions, 0);
+
+        assertEquals(3, sampler.perDraw());
+        assertEquals(0, positions[0] + positions[1] + positions[2]);
+    }
+
+    @Test
+    void testMultiplyHigh() {
+        Random random = new Random(0);
+        BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int i = 0; i < 10_000; i++) {
+            long x = random.nextLong();
+            long y = i == 0 ? -1L : random.nextLong();
+            BigInteger product = new BigInteger(Long.toUnsignedString(x))
+                    .multiply(new BigInteger(Long.toUnsignedString(y)));
+            assertEquals(product.shiftRight(64).and(mask).longValue(), PositionSampler.multiplyHigh(x, y));
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package io.github.devnsi.random;
 
+import io.github.devnsi.random.dictionary.CompactWords;
 import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.IndexedWords;
+import io.github.devnsi.random.dictionary.ResourceWords;
+import io.github.devnsi.random.dictionary.SlotWords;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RandomIdGenTest {
@@ -44,6 +59,32 @@ class RandomIdGenTest {
         assertTrue(value.stream().allMatch(s -> s != null && s.split(delimiter).length == amountParts));
     }
 
+    @Test
+    void testNextBatchParallel() {
+        int amount = 10_000;
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        RandomIdGen randomSame = new RandomIdGen("-", 3, new Random(0));
+
+        List<String> value = random.next(amount, true);
+        List<String> valueSame = randomSame.next(amount, true);
+
+        assertEquals(amount, value.size());
+        assertTrue(value.stream().allMatch(s -> s != null && s.split("-").length == 3));
+        assertEquals(value, valueSame);
+    }
+
+    @Test
+    void testNextBatchResourceWords() {
+        int amount = 10_000;
+        Dictionary dictionary = new ResourceWords("random-ids/words.txt");
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0), dictionary);
+        RandomIdGen randomIndexed = new RandomIdGen("-", 3, new Random(0), new IndexedWords("random-ids/words.txt"));
+
+        List<String> value = random.next(amount);
+        assertEquals(amount, value.size());
+        assertEquals(randomIndexed.next(amount), value);
+    }
+
     @Test
     void testCustomDictionary() {
         String delimiter = "-";
@@ -80,6 +121,34 @@ class RandomIdGenTest {
         }
     }
 
+    @Test
+    void testNextPostProcessingOncePerWord() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        random.setPostProcessor(word -> word + "!");
+
+        assertTrue(random.next().matches("[^-!]+!-[^-!]+!-[^-!]+!"));
+        assertTrue(random.next(10).stream().allMatch(id -> id.matches("[^-!]+!-[^-!]+!-[^-!]+!")));
+    }
+
+    @Test
+    void testNextPostProcessingPure() {
+        UnaryOperator<String> capitalize = word -> word.substring(0, 1).toUpperCase() + word.substring(1);
+        RandomIdGen random = new RandomIdGen("", 3, new Random(0));
+        RandomIdGen randomPure = new RandomIdGen("", 3, new Random(0));
+        random.setPostProcessor(capitalize);
+        randomPure.setPostProcessor(capitalize, true);
+
+        assertEquals(random.next(), randomPure.next());
+        assertEquals(random.next(100), randomPure.next(100));
+        assertEquals(random.stream().limit(3).collect(Collectors.toList()),
+                randomPure.stream().limit(3).collect(Collectors.toList()));
+        RandomIdGen parsing = new RandomIdGen("-", 3, new Random(0));
+        parsing.setPostProcessor(capitalize, true);
+        String id = parsing.next();
+        assertTrue(Character.isUpperCase(id.charAt(0)));
+        assertTrue(parsing.isValid(id));
+    }
+
     @Test
     void testSupplier() {
         RandomIdGen random = new RandomIdGen("-", 2, new Random(0));
@@ -97,6 +166,299 @@ class RandomIdGenTest {
         assertEquals(10, collector.size());
     }
 
+    @Test
+    void testStreamUniqueShort() {
+        Dictionary dictionary = new IndexedWords(Arrays.asList("a", "b", "c", "d", "e"));
+        RandomIdGen random = new RandomIdGen("-", 1, new Random(0), dictionary);
+        random.setUnique(true);
+
+        assertEquals(3, random.stream().limit(3).distinct().count());
+        assertEquals(2, random.next(2).size());
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testStreamSized() {
+        RandomIdGen random = new RandomIdGen("-", 2, new Random(0));
+
+        Spliterator<String> spliterator = random.stream(10_000).spliterator();
+        assertEquals(10_000, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(10_000, random.stream(10_000).parallel().filter(Objects::nonNull).count());
+    }
+
+    @Test
+    void testStreamReproducible() {
+        List<String> value = new RandomIdGen("-", 2, new Random(0)).stream().limit(100).collect(Collectors.toList());
+        List<String> valueSame = new RandomIdGen("-", 2, new Random(0)).stream(100).collect(Collectors.toList());
+        List<String> valueNext = new RandomIdGen("-", 2, new Random(0)).next(100);
+
+        assertEquals(valueNext, value);
+        assertEquals(valueNext, valueSame);
+    }
+
+    @Test
+    void testExport() throws IOException {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        random.export(output, 5000);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertEquals(5000, lines.length);
+        assertTrue(Arrays.stream(lines).allMatch(s -> s.split("-").length == 3));
+    }
+
+    @Test
+    void testUnique() {
+        Dictionary dictionary = new IndexedWords("random-ids/words-test.txt");
+        RandomIdGen random = new RandomIdGen("-", 2, new Random(0), dictionary);
+        random.setUnique(true);
+
+        List<String> value = random.next(26 * 26);
+        assertEquals(26 * 26, random.combinations());
+        assertEquals(value.size(), value.stream().distinct().count());
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testUniqueParallel() {
+        RandomIdGen random = new RandomIdGen("-", 1, new Random(0));
+        random.setUnique(true);
+
+        List<String> value = random.next(50_000, true);
+        assertEquals(value.size(), value.stream().distinct().count());
+    }
+
+    @Test
+    void testUniqueExceedingCombinations() {
+        RandomIdGen random = new RandomIdGen("-", 4, new Random(0));
+        assertEquals(Long.MAX_VALUE, random.combinations());
+        assertThrowsExactly(IllegalStateException.class, () -> random.setUnique(true));
+    }
+
+    @Test
+    void testWriteTo() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        RandomIdGen randomSame = new RandomIdGen("-", 3, new Random(0));
+        byte[] target = new byte[200];
+
+        int length = random.writeTo(target, 10);
+        assertEquals(randomSame.next(), new String(target, 10, length, StandardCharsets.UTF_8));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(200);
+        direct.position(5);
+        length = random.writeTo(direct);
+        assertEquals(5 + length, direct.position());
+        byte[] written = new byte[length];
+        ((ByteBuffer) direct.flip().position(5)).get(written);
+        assertEquals(randomSame.next(), new String(written, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteToEncoded() {
+        Dictionary dictionary = new CompactWords("random-ids/words-encoded.txt");
+        RandomIdGen random = new RandomIdGen("·", 4, new Random(0), dictionary);
+        RandomIdGen randomSame = new RandomIdGen("·", 4, new Random(0), dictionary);
+        ByteBuffer heap = ByteBuffer.allocate(100);
+
+        int length = random.writeTo(heap);
+        assertEquals(randomSame.next(), new String(heap.array(), 0, length, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteToPostProcessed() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        RandomIdGen randomSame = new RandomIdGen("-", 3, new Random(0));
+        random.setPostProcessor(String::toUpperCase);
+        randomSame.setPostProcessor(String::toUpperCase);
+        byte[] target = new byte[200];
+
+        int length = random.writeTo(target, 0);
+        assertEquals(randomSame.next(), new String(target, 0, length, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testWriteToPostProcessOverridden() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0)) {
+            @Override
+            protected String postProcess(String word) {
+                return word.toUpperCase();
+            }
+        };
+        byte[] target = new byte[200];
+
+        int length = random.writeTo(target, 0);
+        String id = new String(target, 0, length, StandardCharsets.UTF_8);
+        assertEquals(id.toUpperCase(), id);
+    }
+
+    @Test
+    void testWriteToOverflow() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        assertThrowsExactly(IndexOutOfBoundsException.class, () -> random.writeTo(new byte[4], 0));
+        assertThrowsExactly(IndexOutOfBoundsException.class, () -> random.writeTo(new byte[200], -1));
+        assertThrowsExactly(BufferOverflowException.class, () -> random.writeTo(ByteBuffer.allocate(4)));
+    }
+
+    @Test
+    void testSharedDictionary() {
+        assertSame(new RandomIdGen().dictionary, new RandomIdGen("~", 5, new Random(0)).dictionary);
+    }
+
+    @Test
+    void testParse() {
+        RandomIdGen random = new RandomIdGen("~", 3, new Random(0));
+        String id = random.next();
+
+        long[] positions = random.parse(id);
+        assertEquals(3, positions.length);
+        String words = Arrays.stream(positions).mapToObj(random.dictionary::readWord).collect(Collectors.joining("~"));
+        assertEquals(id, words);
+        assertEquals(0, random.parse("aalii~aalii~aalii")[0]);
+    }
+
+    @Test
+    void testSlots() {
+        SlotWords slots = new SlotWords(SlotWords.ADJECTIVES, SlotWords.ADJECTIVES, SlotWords.NOUNS);
+        RandomIdGen random = new RandomIdGen("-", new Random(0), slots);
+        assertEquals(slots.slotSize(0) * slots.slotSize(1) * slots.slotSize(2), random.combinations());
+
+        for (String id : random.next(1000)) {
+            String[] words = id.split("-");
+            for (int slot = 0; slot < 3; slot++) {
+                assertTrue(slots.indexOf(slot, words[slot]) >= 0, id);
+            }
+            long[] positions = random.parse(id);
+            assertTrue(positions[2] >= slots.slotStart(2), id);
+        }
+        assertFalse(random.isValid("fox-fox-fox"));
+        assertThrowsExactly(IllegalArgumentException.class, () -> new RandomIdGen("-", 2, new Random(0), slots));
+    }
+
+    @Test
+    void testSlotsUnique() {
+        Dictionary letters = new IndexedWords("random-ids/words-test.txt");
+        SlotWords slots = new SlotWords(letters, new IndexedWords(Arrays.asList("x", "y", "z")));
+        RandomIdGen random = new RandomIdGen("-", new Random(0), slots);
+        random.setUnique(true);
+
+        List<String> value = random.next(26 * 3);
+        assertEquals(26 * 3, random.combinations());
+        assertEquals(value.size(), value.stream().distinct().count());
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testSlotsPostProcessingPure() {
+        SlotWords slots = new SlotWords(new IndexedWords(Arrays.asList("red", "light")),
+                new IndexedWords(Arrays.asList("light", "sky")));
+        RandomIdGen random = new RandomIdGen("-", new Random(0), slots);
+        random.setPostProcessor(String::toUpperCase, true);
+
+        for (String id : random.next(100)) {
+            assertTrue(id.matches("(RED|LIGHT)-(LIGHT|SKY)"), id);
+            assertTrue(random.isValid(id), id);
+        }
+        assertEquals(2, random.parse("LIGHT-LIGHT")[1]);
+    }
+
+    @Test
+    void testMaxLength() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        long unlimited = random.combinations();
+        random.setMaxLength(16);
+
+        assertTrue(random.combinations() < unlimited);
+        for (String id : random.next(1000)) {
+            assertTrue(id.length() <= 16, id);
+            assertTrue(random.isValid(id), id);
+        }
+        assertTrue(random.next().length() <= 16);
+        random.setMaxLength(0);
+        assertEquals(unlimited, random.combinations());
+        assertThrowsExactly(IllegalStateException.class, () -> random.setMaxLength(2));
+        assertThrowsExactly(IllegalArgumentException.class, () -> random.setMaxLength(-1));
+    }
+
+    @Test
+    void testMaxLengthNotFitting() {
+        Dictionary dictionary = new IndexedWords(Arrays.asList("ab", "cd"));
+        RandomIdGen random = new RandomIdGen("-", 1, new Random(0), dictionary);
+        random.setMaxLength(2);
+
+        assertThrowsExactly(IllegalStateException.class, () -> random.setMaxLength(1));
+        assertEquals(2, random.combinations());
+        assertEquals(2, random.next().length());
+    }
+
+    @Test
+    void testMaxLengthNotLimiting() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+        long unlimited = random.combinations();
+        random.setMaxLength(Integer.MAX_VALUE);
+
+        assertEquals(unlimited, random.combinations());
+        assertTrue(random.isValid(random.next()));
+
+        Dictionary dictionary = new IndexedWords(Arrays.asList("a", "bb", "ccc"));
+        RandomIdGen limited = new RandomIdGen("-", 2, new Random(0), dictionary);
+        limited.setMaxLength(7);
+        assertEquals(9, limited.combinations());
+        limited.setMaxLength(6);
+        assertEquals(8, limited.combinations());
+    }
+
+    @Test
+    void testMaxLengthUnique() {
+        Dictionary dictionary = new IndexedWords(Arrays.asList("a", "bb", "ccc"));
+        RandomIdGen random = new RandomIdGen("-", 1, new Random(0), dictionary);
+        random.setUnique(true);
+        random.next(3);
+
+        assertThrowsExactly(IllegalStateException.class, () -> random.setMaxLength(2));
+        assertThrowsExactly(IllegalStateException.class, random::next);
+        random.setUnique(false);
+        random.setMaxLength(2);
+        random.setUnique(true);
+        random.next(2);
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testMaxLengthPostProcessingPure() {
+        Dictionary dictionary = new IndexedWords(Arrays.asList("a", "bb", "ccc"));
+        RandomIdGen random = new RandomIdGen("", 2, new Random(0), dictionary);
+        random.setMaxLength(4);
+        random.setPostProcessor(word -> word + word, true);
+
+        for (String id : random.next(100)) {
+            assertEquals("aaaa", id);
+        }
+    }
+
+    @Test
+    void testIsValid() {
+        RandomIdGen random = new RandomIdGen("-", 3, new Random(0));
+
+        assertTrue(random.isValid(random.next()));
+        assertTrue(random.isValid("aalii-aalii-aalii"));
+        assertFalse(random.isValid("aalii-aalii"));
+        assertFalse(random.isValid("aalii-aalii-aalii-aalii"));
+        assertFalse(random.isValid("aalii-aalii-notaword"));
+        assertFalse(random.isValid(""));
+        assertThrowsExactly(IllegalArgumentException.class, () -> random.parse("aalii-aalii"));
+    }
+
+    @Test
+    void testIsValidWithoutDelimiter() {
+        RandomIdGen random = new RandomIdGen("", 3, new Random(0));
+
+        assertFalse(random.isValid(random.next()));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> random.parse("aaliiaaliiaalii"));
+        assertTrue(new RandomIdGen("", 1, new Random(0)).isValid("aalii"));
+    }
+
     private static class DictionaryTest implements Dictionary {
 
         private Long[] latestPositions = new Long[0];
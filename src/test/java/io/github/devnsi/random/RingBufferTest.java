@@ -0,0 +1,67 @@
+package io.github.devnsi.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+
+    @Test
+    void testOrder() {
+        RingBuffer<Integer> ring = new RingBuffer<>(3);
+        assertEquals(4, ring.capacity());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(ring.offer(i));
+            }
+            assertFalse(ring.offer(4));
+            assertEquals(4, ring.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i, ring.poll());
+            }
+            assertNull(ring.poll());
+            assertEquals(0, ring.size());
+        }
+    }
+
+    @Test
+    void testConcurrent() throws InterruptedException {
+        RingBuffer<Integer> ring = new RingBuffer<>(64);
+        int threads = 4;
+        int amount = 10_000;
+        Set<Integer> taken = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads * 2);
+        for (int t = 0; t < threads; t++) {
+            int offset = t * amount;
+            executor.execute(() -> {
+                for (int i = 0; i < amount; i++) {
+                    while (!ring.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            executor.execute(() -> {
+                for (int i = 0; i < amount; i++) {
+                    Integer element;
+                    while ((element = ring.poll()) == null) {
+                        Thread.yield();
+                    }
+                    taken.add(element);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(threads * amount, taken.size());
+        assertNull(ring.poll());
+    }
+}
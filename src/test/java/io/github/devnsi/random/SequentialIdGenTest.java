@@ -0,0 +1,106 @@
+package io.github.devnsi.random;
+
+import io.github.devnsi.random.dictionary.Dictionary;
+import io.github.devnsi.random.dictionary.IndexedWords;
+import io.github.devnsi.random.dictionary.SlotWords;
+import io.github.devnsi.random.dictionary.WeightedWords;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequentialIdGenTest {
+
+    private final Dictionary dictionary = new IndexedWords("random-ids/words-test.txt");
+
+    @Test
+    void testNext() {
+        SequentialIdGen random = new SequentialIdGen("-", 3, 0);
+
+        String value = random.next();
+        System.out.println(value);
+        assertEquals(3, value.split("-").length);
+        assertNotEquals(value, random.next());
+    }
+
+    @Test
+    void testAllCombinations() {
+        SequentialIdGen random = new SequentialIdGen("-", 2, 0, this.dictionary);
+
+        List<String> value = random.next(26 * 26);
+        assertEquals(value.size(), value.stream().distinct().count());
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testAllCombinationsOfSlots() {
+        SlotWords slots = new SlotWords(this.dictionary, new IndexedWords(Arrays.asList("x", "y", "z")));
+        SequentialIdGen random = new SequentialIdGen("-", 2, 0, slots);
+
+        List<String> value = random.next(26 * 3);
+        assertEquals(value.size(), value.stream().distinct().count());
+        assertTrue(value.stream().allMatch(id -> id.matches("[a-z]-[xyz]")));
+        assertEquals(5, random.counterOf(value.get(5)));
+        assertThrowsExactly(IllegalStateException.class, random::next);
+    }
+
+    @Test
+    void testResume() {
+        SequentialIdGen random = new SequentialIdGen("-", 3, 7);
+        random.next(10);
+        long counter = random.getCounter();
+        List<String> expected = random.next(10);
+
+        SequentialIdGen resumed = new SequentialIdGen("-", 3, 7);
+        resumed.setCounter(counter);
+        assertEquals(10, counter);
+        assertEquals(expected, resumed.next(10));
+    }
+
+    @Test
+    void testCounterOf() {
+        SequentialIdGen random = new SequentialIdGen("-", 3, 7);
+        random.setCounter(1000);
+        String id = random.next();
+
+        assertEquals(1000, new SequentialIdGen("-", 3, 7).counterOf(id));
+        assertThrowsExactly(IllegalArgumentException.class, () -> random.counterOf("not-an-id"));
+    }
+
+    @Test
+    void testDisjointRanges() {
+        SequentialIdGen first = new SequentialIdGen("-", 2, 0, this.dictionary, 0, 300);
+        SequentialIdGen second = new SequentialIdGen("-", 2, 0, this.dictionary, 300, 676);
+
+        Set<String> value = new HashSet<>(first.next(300));
+        value.addAll(second.next(376));
+        assertEquals(676, value.size());
+        assertThrowsExactly(IllegalStateException.class, first::next);
+        assertTrue(value.stream().allMatch(s -> s.split("-").length == 2));
+    }
+
+    @Test
+    void testMaxLength() {
+        SequentialIdGen random = new SequentialIdGen("-", 2, 0, this.dictionary);
+        assertThrowsExactly(UnsupportedOperationException.class, () -> random.setMaxLength(3));
+        random.setMaxLength(0);
+    }
+
+    @Test
+    void testWeighted() {
+        Dictionary weighted = new WeightedWords("random-ids/words-weighted.txt");
+        assertThrowsExactly(IllegalArgumentException.class, () -> new SequentialIdGen("-", 2, 0, weighted));
+    }
+
+    @Test
+    void testExceedingCombinations() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new SequentialIdGen("-", 4, 0));
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class BinaryWordsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testConverted() throws IOException {
+        Path source = this.directory.resolve("words-test.txt");
+        Files.write(source, Resources.readBytes("random-ids/words-test.txt"));
+        WordsConverter.convert(source, this.directory.resolve("random-ids/words-test.bin"));
+
+        Dictionary dictionary = withResources(() -> new BinaryWords("random-ids/words-test.bin"));
+        assertEquals(26, dictionary.size());
+        assertEquals("a", dictionary.readWord(0L));
+        assertEquals("k", dictionary.readWord(10L));
+        assertEquals("z", dictionary.readWord(dictionary.size() - 1));
+    }
+
+    @Test
+    void testConvertedEncoded() throws IOException {
+        Path source = this.directory.resolve("words-encoded.txt");
+        Files.write(source, Resources.readBytes("random-ids/words-encoded.txt"));
+        WordsConverter.convert(source, this.directory.resolve("words-encoded.bin"));
+
+        Dictionary dictionary = withResources(() -> new BinaryWords("words-encoded.bin"));
+        assertEquals(4, dictionary.size());
+        assertEquals("bär", dictionary.readWord(1L));
+        assertEquals("zoë", dictionary.readWord(3L));
+    }
+
+    @Test
+    void testRandomWords() {
+        Dictionary dictionary = new RandomWords();
+        assertEquals(100_000, dictionary.size());
+        assertEquals("aalii", dictionary.readWord(0L));
+    }
+
+    @Test
+    void testRandomWordsWithoutBinary() {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(new ClassLoader(previous) {
+            @Override
+            public URL getResource(String name) {
+                return name.endsWith(".bin") ? null : super.getResource(name);
+            }
+        });
+        try {
+            assertEquals("random-ids/words.txt", RandomWords.path());
+            Dictionary dictionary = new RandomWords();
+            assertEquals(100_000, dictionary.size());
+            assertEquals("aalii", dictionary.readWord(0L));
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    void testInitializationNoBinary() {
+        assertThrowsExactly(IllegalStateException.class, () -> new BinaryWords("random-ids/words-test.txt"));
+    }
+
+    @Test
+    void testInitializationMalformed() throws IOException {
+        int[][] headers = {{-1, 0}, {Integer.MAX_VALUE, 0}, {1, -1}, {1, 64}, {1, 2}};
+        for (int[] header : headers) {
+            ByteBuffer content = ByteBuffer.allocate(24);
+            content.putInt(BinaryWords.MAGIC).putInt(BinaryWords.VERSION).putInt(header[0]).putInt(header[1]);
+            content.putInt(0).putInt(1);
+            Files.write(this.directory.resolve("malformed.bin"), content.array());
+            assertThrowsExactly(IllegalStateException.class,
+                    () -> withResources(() -> new BinaryWords("malformed.bin")), Arrays.toString(header));
+        }
+    }
+
+    private <T> T withResources(Supplier<T> supplier) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{this.directory.toUri().toURL()}, previous)) {
+            thread.setContextClassLoader(loader);
+            return supplier.get();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactWordsTest {
+
+    private final Dictionary dictionary = new CompactWords("random-ids/words-test.txt");
+
+    @Test
+    void testSize() {
+        assertEquals(26, this.dictionary.size());
+    }
+
+    @Test
+    void testNormalizingMin() {
+        String a = this.dictionary.readWord(-1L);
+        String b = this.dictionary.readWord(0);
+        assertEquals(b, a);
+    }
+
+    @Test
+    void testMin() {
+        String firstWord = this.dictionary.readWord(0L);
+        System.out.println(firstWord);
+        assertEquals("a", firstWord);
+    }
+
+    @Test
+    void testMultiple() {
+        List<String> words = this.dictionary.readWords(this.dictionary.size() - 1, 0L, 10L);
+        System.out.println(words);
+        assertEquals("z", words.get(0));
+        assertEquals("a", words.get(1));
+        assertEquals("k", words.get(2));
+    }
+
+    @Test
+    void testMultipleEmpty() {
+        List<String> words = this.dictionary.readWords();
+        System.out.println(words);
+        assertTrue(words.isEmpty());
+    }
+
+    @Test
+    void testMultipleDuplicates() {
+        List<String> words = this.dictionary.readWords(10L, 10L);
+        System.out.println(words);
+        assertEquals("k", words.get(0));
+        assertEquals("k", words.get(1));
+    }
+
+    @Test
+    void testMax() {
+        String lastWord = this.dictionary.readWord(this.dictionary.size() - 1);
+        System.out.println(lastWord);
+        assertEquals("z", lastWord);
+    }
+
+    @Test
+    void testNormalizingMax() {
+        long size = this.dictionary.size();
+        String a = this.dictionary.readWord(size - 1);
+        String b = this.dictionary.readWord(size);
+        String c = this.dictionary.readWord(size + 1);
+        assertEquals(a, b);
+        assertEquals(a, c);
+    }
+
+    @Test
+    void testInitializationNoFile() {
+        assertThrowsExactly(IllegalStateException.class, () -> new CompactWords("test"));
+    }
+
+    @Test
+    void testCached() {
+        Dictionary cached = new CompactWords("random-ids/words-test.txt", true);
+        String a = cached.readWord(10L);
+        String b = cached.readWord(10L);
+        assertEquals("k", a);
+        assertSame(a, b);
+    }
+
+    @Test
+    void testEncodedLines() {
+        Dictionary encoded = new CompactWords("random-ids/words-encoded.txt");
+        assertEquals(4, encoded.size());
+        assertEquals("äpfel", encoded.readWord(0L));
+        assertEquals("bär", encoded.readWord(1L));
+        assertEquals("", encoded.readWord(2L));
+        assertEquals("zoë", encoded.readWord(3L));
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(0, this.dictionary.indexOf("a"));
+        assertEquals(10, this.dictionary.indexOf("k"));
+        assertEquals(25, this.dictionary.indexOf("z"));
+        assertEquals(-1, this.dictionary.indexOf("aa"));
+        assertEquals(-1, this.dictionary.indexOf(""));
+    }
+
+    @Test
+    void testIndexOfUnsorted() {
+        Dictionary encoded = new CompactWords("random-ids/words-encoded.txt");
+        assertEquals(0, encoded.indexOf("äpfel"));
+        assertEquals(1, encoded.indexOf("bär"));
+        assertEquals(2, encoded.indexOf(""));
+        assertEquals(3, encoded.indexOf("zoë"));
+        assertEquals(-1, encoded.indexOf("bar"));
+    }
+
+    @Test
+    void testWriteWord() {
+        CompactWords encoded = new CompactWords("random-ids/words-encoded.txt");
+        byte[] target = new byte[8];
+
+        assertEquals(4, encoded.encodedLength(1));
+        assertEquals(4, encoded.writeWord(1, target, 2));
+        assertEquals("bär", new String(target, 2, 4, StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        assertEquals(0, encoded.writeWord(2, buffer));
+        assertEquals(4, encoded.writeWord(3, buffer));
+        assertEquals("zoë", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+}
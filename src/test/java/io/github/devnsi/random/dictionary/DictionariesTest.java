@@ -0,0 +1,72 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class DictionariesTest {
+
+    @Test
+    void testRandomWords() {
+        Dictionaries.clear();
+        long misses = Dictionaries.getMisses();
+        Dictionary dictionary = Dictionaries.randomWords();
+        long hits = Dictionaries.getHits();
+
+        assertSame(dictionary, Dictionaries.randomWords());
+        assertEquals(hits + 1, Dictionaries.getHits());
+        assertEquals(misses + 1, Dictionaries.getMisses());
+        assertEquals(100_000, dictionary.size());
+    }
+
+    @Test
+    void testSharedByContent() {
+        Dictionaries.clear();
+        long misses = Dictionaries.getMisses();
+        Dictionary dictionary = Dictionaries.shared("random-ids/words-test.txt", CompactWords.class,
+                CompactWords::new);
+        Dictionary copy = Dictionaries.shared("random-ids/words-test-copy.txt", CompactWords.class,
+                CompactWords::new);
+        Dictionary other = Dictionaries.shared("random-ids/words-encoded.txt", CompactWords.class,
+                CompactWords::new);
+
+        assertSame(dictionary, copy);
+        assertNotSame(dictionary, other);
+        assertEquals(misses + 2, Dictionaries.getMisses());
+    }
+
+    @Test
+    void testSharedByType() {
+        Dictionaries.clear();
+        IndexedWords indexed = Dictionaries.shared("random-ids/words-weighted.txt", IndexedWords.class,
+                IndexedWords::new);
+        WeightedWords weighted = Dictionaries.shared("random-ids/words-weighted.txt", WeightedWords.class,
+                WeightedWords::new);
+
+        assertNotSame(indexed, weighted);
+        assertEquals("the", weighted.readWord(0L));
+        assertSame(weighted, Dictionaries.shared("random-ids/words-weighted.txt", WeightedWords.class,
+                WeightedWords::new));
+        assertSame(indexed, Dictionaries.shared("random-ids/words-weighted.txt", IndexedWords.class,
+                IndexedWords::new));
+    }
+
+    @Test
+    void testClear() {
+        Dictionary dictionary = Dictionaries.shared("random-ids/words-test.txt", IndexedWords.class,
+                IndexedWords::new);
+        Dictionaries.clear();
+
+        assertNotSame(dictionary, Dictionaries.shared("random-ids/words-test.txt", IndexedWords.class,
+                IndexedWords::new));
+    }
+
+    @Test
+    void testNoFile() {
+        assertThrowsExactly(IllegalStateException.class,
+                () -> Dictionaries.shared("test", IndexedWords.class, IndexedWords::new));
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilteredWordsTest {
+
+    private final Dictionary words = new IndexedWords(Arrays.asList("a", "äpfel", "bär", "code", "zoë", "zulu"));
+
+    @Test
+    void testMaxLength() {
+        FilteredWords filtered = FilteredWords.maxLength(this.words, 3);
+
+        assertEquals(3, filtered.size());
+        assertEquals(Arrays.asList("a", "bär", "zoë"), filtered.readWords(0L, 1L, 2L));
+    }
+
+    @Test
+    void testExcluding() {
+        FilteredWords filtered = FilteredWords.excluding(this.words, Arrays.asList("code", "a"));
+
+        assertEquals(4, filtered.size());
+        assertEquals("äpfel", filtered.readWord(0));
+        assertEquals("zulu", filtered.readWord(3));
+    }
+
+    @Test
+    void testAscii() {
+        FilteredWords filtered = FilteredWords.ascii(this.words);
+
+        String[] read = new String[3];
+        filtered.readWords(new long[]{2, 0, 1}, read);
+        assertArrayEquals(new String[]{"zulu", "a", "code"}, read);
+        String[] other = new String[2];
+        filtered.readWords(new long[]{1, 1}, other);
+        assertArrayEquals(new String[]{"code", "code"}, other);
+    }
+
+    @Test
+    void testIndexOf() {
+        FilteredWords filtered = FilteredWords.ascii(this.words);
+
+        assertEquals(1, filtered.indexOf("code"));
+        assertEquals(2, filtered.indexOf("zulu"));
+        assertEquals(-1, filtered.indexOf("bär"));
+        assertEquals(-1, filtered.indexOf("missing"));
+    }
+
+    @Test
+    void testWriteWord() {
+        byte[] expected = "zoë".getBytes(StandardCharsets.UTF_8);
+        Dictionary source = new CompactWords("random-ids/words-encoded.txt");
+        EncodedDictionary filtered = (EncodedDictionary) FilteredWords.excluding(source, Collections.singleton("bär"));
+        long position = filtered.indexOf("zoë");
+        assertTrue(position >= 0);
+
+        byte[] target = new byte[filtered.encodedLength(position)];
+        assertEquals(expected.length, filtered.writeWord(position, target, 0));
+        assertArrayEquals(expected, target);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertEquals(expected.length, filtered.writeWord(position, buffer));
+        assertEquals(expected.length, buffer.position());
+    }
+
+    @Test
+    void testNotEncoded() {
+        assertFalse(FilteredWords.ascii(this.words) instanceof EncodedDictionary);
+        assertFalse(new FilteredWords(new CompactWords("random-ids/words-test.txt"), word -> true)
+                instanceof EncodedDictionary);
+    }
+
+    @Test
+    void testLargeDictionary() {
+        FilteredWords filtered = FilteredWords.maxLength(new RandomWords(), 5);
+
+        assertTrue(filtered.size() > 4096);
+        for (long position = 0; position < filtered.size(); position += 997) {
+            assertTrue(filtered.readWord(position).length() <= 5);
+        }
+    }
+
+    @Test
+    void testNoneRemaining() {
+        assertThrowsExactly(IllegalStateException.class, () -> FilteredWords.maxLength(this.words, 0));
+    }
+}
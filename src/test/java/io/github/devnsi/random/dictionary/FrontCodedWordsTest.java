@@ -0,0 +1,130 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrontCodedWordsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReadWord() {
+        Dictionary dictionary = new FrontCodedWords("random-ids/words-test.txt");
+        assertEquals(26, dictionary.size());
+        assertEquals("a", dictionary.readWord(-1L));
+        assertEquals("k", dictionary.readWord(10L));
+        assertEquals("q", dictionary.readWord(16L));
+        assertEquals("z", dictionary.readWord(dictionary.size()));
+    }
+
+    @Test
+    void testSameAsCompact() {
+        Dictionary expected = new CompactWords("random-ids/words.txt");
+        Dictionary dictionary = new FrontCodedWords("random-ids/words.txt");
+        Dictionary cached = new FrontCodedWords("random-ids/words.txt", 4);
+        assertEquals(expected.size(), dictionary.size());
+        for (long i = 0; i < expected.size(); i += 7) {
+            String word = expected.readWord(i);
+            assertEquals(word, dictionary.readWord(i));
+            assertEquals(word, cached.readWord(i));
+            assertEquals(i, dictionary.indexOf(word));
+        }
+    }
+
+    @Test
+    void testReadWords() {
+        Dictionary dictionary = new FrontCodedWords("random-ids/words.txt");
+        long[] positions = {99_999, 0, 17, 17, -1, 100_000};
+        String[] words = new String[positions.length];
+        dictionary.readWords(positions, words);
+
+        for (int i = 0; i < positions.length; i++) {
+            assertEquals(dictionary.readWord(positions[i]), words[i]);
+        }
+    }
+
+    @Test
+    void testIndexOf() {
+        Dictionary dictionary = new FrontCodedWords("random-ids/words.txt");
+        assertEquals(0, dictionary.indexOf("aalii"));
+        assertEquals(dictionary.size() - 1, dictionary.indexOf(dictionary.readWord(dictionary.size() - 1)));
+        assertEquals(-1, dictionary.indexOf(""));
+        assertEquals(-1, dictionary.indexOf("aaa"));
+        assertEquals(-1, dictionary.indexOf("zzzzzzzz"));
+    }
+
+    @Test
+    void testUnsorted() {
+        Dictionary dictionary = new FrontCodedWords("random-ids/words-encoded.txt");
+        assertEquals(4, dictionary.size());
+        assertEquals("äpfel", dictionary.readWord(0L));
+        assertEquals("", dictionary.readWord(2L));
+        assertEquals(1, dictionary.indexOf("bär"));
+        assertEquals(3, dictionary.indexOf("zoë"));
+    }
+
+    @Test
+    void testConverted() throws IOException {
+        Path source = this.directory.resolve("words.txt");
+        Files.write(source, Resources.readBytes("random-ids/words.txt"));
+        Path target = this.directory.resolve("random-ids/words.fc");
+        WordsConverter.convertFrontCoded(source, target);
+        assertTrue(Files.size(target) < Files.size(source));
+
+        Dictionary expected = new FrontCodedWords("random-ids/words.txt");
+        Dictionary dictionary = withResources(() -> new FrontCodedWords("random-ids/words.fc"));
+        assertEquals(expected.size(), dictionary.size());
+        for (long i = 0; i < expected.size(); i += 13) {
+            assertEquals(expected.readWord(i), dictionary.readWord(i));
+        }
+    }
+
+    @Test
+    void testInitializationEmpty() throws IOException {
+        Files.write(this.directory.resolve("empty.txt"), new byte[0]);
+        assertThrowsExactly(IllegalStateException.class, () -> withResources(() -> new FrontCodedWords("empty.txt")));
+    }
+
+    @Test
+    void testInitializationMalformed() throws IOException {
+        int[][] headers = {{1, 1, -1}, {1, 1, Integer.MAX_VALUE}, {1, 1, 2}, {-1, 1, 1}, {1, -1, 1}, {1, 1 << 20, 1}};
+        for (int[] header : headers) {
+            ByteBuffer content = ByteBuffer.allocate(27);
+            content.putInt(FrontCodedWords.MAGIC).putInt(FrontCodedWords.VERSION).putInt(header[0]).putInt(header[1]);
+            content.put((byte) 1).putInt(header[2]).putInt(0).put((byte) 1).put((byte) 'a');
+            Files.write(this.directory.resolve("malformed.fc"), content.array());
+            assertThrowsExactly(IllegalStateException.class,
+                    () -> withResources(() -> new FrontCodedWords("malformed.fc")), Arrays.toString(header));
+        }
+        ByteBuffer content = ByteBuffer.allocate(27);
+        content.putInt(FrontCodedWords.MAGIC).putInt(FrontCodedWords.VERSION).putInt(1).putInt(1);
+        content.put((byte) 1).putInt(1).putInt(0).put((byte) 1).put((byte) 'a');
+        Files.write(this.directory.resolve("valid.fc"), content.array());
+        assertEquals("a", withResources(() -> new FrontCodedWords("valid.fc")).readWord(0));
+    }
+
+    private <T> T withResources(Supplier<T> supplier) throws IOException {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{this.directory.toUri().toURL()}, previous)) {
+            thread.setContextClassLoader(loader);
+            return supplier.get();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
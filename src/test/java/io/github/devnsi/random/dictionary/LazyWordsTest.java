@@ -0,0 +1,65 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyWordsTest {
+
+    @Test
+    void testLazy() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyWords dictionary = new LazyWords(() -> {
+            loads.incrementAndGet();
+            return new IndexedWords("random-ids/words-test.txt");
+        });
+        assertFalse(dictionary.isLoaded());
+        assertEquals(0, loads.get());
+
+        assertEquals(26, dictionary.size());
+        assertEquals("k", dictionary.readWord(10L));
+        assertEquals(10, dictionary.indexOf("k"));
+        assertTrue(dictionary.isLoaded());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testAsync() throws InterruptedException {
+        LazyWords dictionary = LazyWords.async(() -> new CompactWords("random-ids/words-test.txt"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!dictionary.isLoaded() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(dictionary.isLoaded());
+        assertEquals("a", dictionary.readWord(0L));
+    }
+
+    @Test
+    void testFailedLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyWords dictionary = new LazyWords(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("unavailable");
+            }
+            return new IndexedWords("random-ids/words-test.txt");
+        });
+
+        assertThrowsExactly(IllegalStateException.class, dictionary::size);
+        assertEquals(26, dictionary.size());
+    }
+
+    @Test
+    void testResourceWordsCountedOnUse() {
+        ResourceWords dictionary = new ResourceWords("random-ids/words-test.txt");
+        assertEquals(-1, dictionary.amount);
+        assertEquals(26, dictionary.size());
+        assertEquals(26, dictionary.amount);
+    }
+}
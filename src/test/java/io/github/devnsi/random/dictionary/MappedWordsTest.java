@@ -0,0 +1,99 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedWordsTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.file = this.directory.resolve("words-test.txt");
+        Files.write(this.file, Resources.readBytes("random-ids/words-test.txt"));
+    }
+
+    @Test
+    void testSize() {
+        Dictionary dictionary = new MappedWords(this.file);
+        assertEquals(26, dictionary.size());
+    }
+
+    @Test
+    void testMinMax() {
+        Dictionary dictionary = new MappedWords(this.file);
+        assertEquals("a", dictionary.readWord(0L));
+        assertEquals("z", dictionary.readWord(dictionary.size() - 1));
+    }
+
+    @Test
+    void testNormalizing() {
+        Dictionary dictionary = new MappedWords(this.file);
+        assertEquals("a", dictionary.readWord(-1L));
+        assertEquals("z", dictionary.readWord(dictionary.size() + 1));
+    }
+
+    @Test
+    void testMultiple() {
+        Dictionary dictionary = new MappedWords(this.file);
+        List<String> words = dictionary.readWords(25L, 0L, 10L, 10L);
+        System.out.println(words);
+        assertEquals("z", words.get(0));
+        assertEquals("a", words.get(1));
+        assertEquals("k", words.get(2));
+        assertEquals("k", words.get(3));
+    }
+
+    @Test
+    void testIndexOf() {
+        Dictionary dictionary = new MappedWords(this.file);
+        assertEquals(0, dictionary.indexOf("a"));
+        assertEquals(10, dictionary.indexOf("k"));
+        assertEquals(25, dictionary.indexOf("z"));
+        assertEquals(-1, dictionary.indexOf("aa"));
+    }
+
+    @Test
+    void testIndexReused() throws IOException {
+        new MappedWords(this.file);
+        Path index = this.directory.resolve("words-test.txt.idx");
+        assertTrue(Files.isRegularFile(index));
+        FileTime indexed = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(index, indexed);
+
+        new MappedWords(this.file);
+        assertEquals(indexed, Files.getLastModifiedTime(index));
+    }
+
+    @Test
+    void testIndexOutdated() throws IOException {
+        new MappedWords(this.file);
+        Files.write(this.file, "x\r\ny\r\n".getBytes(StandardCharsets.UTF_8));
+
+        Dictionary dictionary = new MappedWords(this.file);
+        assertEquals(2, dictionary.size());
+        assertEquals("x", dictionary.readWord(0L));
+        assertEquals("y", dictionary.readWord(1L));
+    }
+
+    @Test
+    void testInitializationNoFile() {
+        Path missing = this.directory.resolve("test");
+        assertThrowsExactly(IllegalStateException.class, () -> new MappedWords(missing));
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProcessedWordsTest {
+
+    @Test
+    void testProcessed() {
+        AtomicInteger calls = new AtomicInteger();
+        Dictionary dictionary = new ProcessedWords(new ResourceWords("random-ids/words-test.txt"), word -> {
+            calls.incrementAndGet();
+            return word.toUpperCase() + "ä";
+        });
+        assertEquals(26, calls.get());
+
+        assertEquals(26, dictionary.size());
+        assertEquals("Aä", dictionary.readWord(0L));
+        assertEquals("Zä", dictionary.readWord(25L));
+        assertEquals("Kä", dictionary.readWord(10L));
+        assertEquals(10, dictionary.indexOf("Kä"));
+        assertEquals(-1, dictionary.indexOf("k"));
+        assertEquals(26, calls.get());
+    }
+
+    @Test
+    void testProcessedUnsorted() {
+        Dictionary words = new IndexedWords("random-ids/words-test.txt");
+        Dictionary dictionary = new ProcessedWords(words, word -> word.equals("b") ? "zz" : word);
+
+        assertEquals("zz", dictionary.readWord(1L));
+        assertEquals(1, dictionary.indexOf("zz"));
+        assertEquals(25, dictionary.indexOf("z"));
+    }
+}
@@ -17,6 +17,15 @@ class ResourceWordsTest {
         assertEquals(26, this.dictionary.size());
     }
 
+    @Test
+    void testCountedWhileReading() {
+        ResourceWords words = new ResourceWords("random-ids/words-test.txt");
+        assertEquals(-1, words.amount);
+
+        assertEquals("z", words.readWord(100L));
+        assertEquals(26, words.amount);
+    }
+
     @Test
     void testNormalizingMin() {
         String a = this.dictionary.readWord(-1L);
@@ -55,6 +64,16 @@ class ResourceWordsTest {
         assertEquals("k", words.get(1));
     }
 
+    @Test
+    void testMultiplePrimitive() {
+        String[] words = new String[4];
+        this.dictionary.readWords(new long[]{this.dictionary.size() - 1, 10L, 0L, 10L}, words);
+        assertEquals("z", words[0]);
+        assertEquals("k", words[1]);
+        assertEquals("a", words[2]);
+        assertEquals("k", words[3]);
+    }
+
     @Test
     void testMax() {
         String lastWord = this.dictionary.readWord(this.dictionary.size() - 1);
@@ -76,4 +95,13 @@ class ResourceWordsTest {
     void testInitializationNoFile() {
         assertThrowsExactly(IllegalStateException.class, () -> new ResourceWords("test"));
     }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(0, this.dictionary.indexOf("a"));
+        assertEquals(10, this.dictionary.indexOf("k"));
+        assertEquals(25, this.dictionary.indexOf("z"));
+        assertEquals(-1, this.dictionary.indexOf("aa"));
+        assertEquals(-1, this.dictionary.indexOf(""));
+    }
 }
@@ -0,0 +1,64 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class SlotWordsTest {
+
+    private final SlotWords dictionary = new SlotWords(
+            new IndexedWords(Arrays.asList("red", "light", "blue")),
+            new IndexedWords(Arrays.asList("light", "sky")));
+
+    @Test
+    void testSlots() {
+        assertEquals(2, this.dictionary.slots());
+        assertEquals(5, this.dictionary.size());
+        assertEquals(0, this.dictionary.slotStart(0));
+        assertEquals(3, this.dictionary.slotSize(0));
+        assertEquals(3, this.dictionary.slotStart(1));
+        assertEquals(2, this.dictionary.slotSize(1));
+        assertEquals(Arrays.asList("red", "light", "blue", "light", "sky"),
+                this.dictionary.readWords(0L, 1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(1, this.dictionary.indexOf(0, "light"));
+        assertEquals(3, this.dictionary.indexOf(1, "light"));
+        assertEquals(4, this.dictionary.indexOf(1, "sky"));
+        assertEquals(-1, this.dictionary.indexOf(0, "sky"));
+        assertEquals(-1, this.dictionary.indexOf(1, "red"));
+    }
+
+    @Test
+    void testResources() {
+        SlotWords resources = new SlotWords(SlotWords.ADJECTIVES, SlotWords.ADJECTIVES, SlotWords.NOUNS);
+
+        assertEquals(3, resources.slots());
+        assertEquals(resources.slotSize(0), resources.slotSize(1));
+        assertEquals(resources.readWord(0), resources.readWord(resources.slotStart(1)));
+        assertEquals(resources.slotStart(1) + resources.slotSize(1), resources.slotStart(2));
+        assertEquals(resources.size(), resources.slotStart(2) + resources.slotSize(2));
+    }
+
+    @Test
+    void testProcessed() {
+        SlotWords processed = this.dictionary.processed(String::toUpperCase);
+
+        assertEquals("LIGHT", processed.readWord(3));
+        assertEquals(3, processed.indexOf(1, "LIGHT"));
+        assertEquals(3, processed.slotStart(1));
+    }
+
+    @Test
+    void testInvalidSlots() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new SlotWords(new Dictionary[0]));
+        IndexedWords empty = new IndexedWords(Collections.emptyList());
+        assertThrowsExactly(IllegalStateException.class, () -> new SlotWords(this.dictionary, empty));
+    }
+}
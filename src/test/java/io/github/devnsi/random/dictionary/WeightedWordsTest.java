@@ -0,0 +1,48 @@
+package io.github.devnsi.random.dictionary;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class WeightedWordsTest {
+
+    private final WeightedWords dictionary = new WeightedWords("random-ids/words-weighted.txt");
+
+    @Test
+    void testWords() {
+        assertEquals(7, this.dictionary.size());
+        assertEquals("the", this.dictionary.readWord(0));
+        assertEquals("word", this.dictionary.readWord(3));
+        assertEquals("zoë", this.dictionary.readWord(6));
+        byte[] encoded = new byte[this.dictionary.encodedLength(6)];
+        this.dictionary.writeWord(6, encoded, 0);
+        assertArrayEquals("zoë".getBytes(StandardCharsets.UTF_8), encoded);
+    }
+
+    @Test
+    void testWeights() {
+        assertEquals(50, this.dictionary.weight(0));
+        assertEquals(25.5, this.dictionary.weight(1));
+        assertEquals(1, this.dictionary.weight(3));
+        assertEquals(0.5, this.dictionary.weight(4));
+        assertEquals(0, this.dictionary.weight(5));
+    }
+
+    @Test
+    void testIndexOf() {
+        assertEquals(2, this.dictionary.indexOf("and"));
+        assertEquals(6, this.dictionary.indexOf("zoë"));
+        assertEquals(-1, this.dictionary.indexOf("and\t12.5"));
+    }
+
+    @Test
+    void testInvalidWeight() {
+        IllegalStateException exception = assertThrowsExactly(IllegalStateException.class,
+                () -> new WeightedWords("random-ids/words-weighted-invalid.txt"));
+        assertEquals("invalid weight '-1' in line 2 of random-ids/words-weighted-invalid.txt", exception.getMessage());
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.devnsi.random.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentRandomTest {
+
+    @Test
+    void testSeededReproducible() {
+        long[] a = draw(new ConcurrentRandom(0), 10);
+        long[] b = draw(new ConcurrentRandom(0), 10);
+        assertArrayEquals(a, b);
+    }
+
+    @Test
+    void testSeededDistinct() {
+        long[] a = draw(new ConcurrentRandom(0), 10);
+        long[] b = draw(new ConcurrentRandom(1), 10);
+        assertTrue(LongStream.range(0, a.length).anyMatch(i -> a[(int) i] != b[(int) i]));
+    }
+
+    @Test
+    void testThreadsDistinct() throws InterruptedException {
+        testThreadsDistinct(new ConcurrentRandom());
+        testThreadsDistinct(new ConcurrentRandom(0));
+    }
+
+    @Test
+    void testBounded() {
+        Random random = new ConcurrentRandom(0);
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(3);
+            assertTrue(value >= 0 && value < 3, value + " must be within bound");
+        }
+    }
+
+    @Test
+    void testSetSeed() {
+        Random random = new ConcurrentRandom();
+        assertThrowsExactly(UnsupportedOperationException.class, () -> random.setSeed(0));
+    }
+
+    private static void testThreadsDistinct(Random random) throws InterruptedException {
+        int threads = 8;
+        int amount = 1000;
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> LongStream.of(draw(random, amount)).forEach(values::add));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threads * amount, values.size());
+    }
+
+    private static long[] draw(Random random, int amount) {
+        return LongStream.range(0, amount).map(i -> random.nextLong()).toArray();
+    }
+}
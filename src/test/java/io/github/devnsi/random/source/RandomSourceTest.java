@@ -0,0 +1,111 @@
+package io.github.devnsi.random.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomSourceTest {
+
+    @Test
+    void testRandomAdapter() {
+        Random random = new Random(0);
+        long first = random.nextLong();
+
+        assertEquals(first, RandomSource.of(new Random(0)).nextLong());
+        long[] split = draw(RandomSource.of(new Random(0)).split(), 10);
+        assertArrayEquals(draw(RandomSource.of(new Random(first)), 10), split);
+    }
+
+    @Test
+    void testRandomAdapterSecure() {
+        RandomSource split = RandomSource.of(new SecureRandom()).split();
+        assertEquals(SecureSource.class, split.getClass());
+        assertEquals(SecureSource.class, split.split().getClass());
+    }
+
+    @Test
+    void testAlgorithms() {
+        assertArrayEquals(draw(new SplittableSource(0), 10), draw(RandomSource.of("SplittableRandom", 0), 10));
+        assertArrayEquals(draw(new XoshiroSource(0), 10), draw(RandomSource.of("Xoshiro256StarStar", 0), 10));
+        assertThrowsExactly(IllegalArgumentException.class, () -> RandomSource.of("Unknown", 0));
+    }
+
+    /** Runs with the classes for Java 17 of the multi-release jar, see the java17 profile. */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_17)
+    @DisabledIfSystemProperty(named = "random-ids.classes", matches = "java8")
+    void testGeneratorAlgorithms() {
+        RandomSource source = RandomSource.of("L64X128MixRandom", 0);
+        assertEquals("GeneratorSource", source.getClass().getSimpleName());
+        assertArrayEquals(draw(RandomSource.of("L64X128MixRandom", 0), 10), draw(source, 10));
+        assertArrayEquals(draw(RandomSource.of("L64X128MixRandom", 10).split(), 10),
+                draw(RandomSource.of("L64X128MixRandom", 10).split(), 10));
+        assertArrayEquals(draw(RandomSource.of("Random", 0), 10), draw(RandomSource.of(new Random(0)), 10));
+        RandomSource seeded = RandomSource.of("Xoroshiro128PlusPlus", 0);
+        assertEquals(10, LongStream.of(draw(seeded.split(), 10)).distinct().count());
+        assertThrowsExactly(IllegalArgumentException.class, () -> RandomSource.of("Unknown", 0));
+    }
+
+    /** Runs with the baseline classes on Java 17 or later, see the java17 profile. */
+    @Test
+    @EnabledIfSystemProperty(named = "random-ids.classes", matches = "java8")
+    void testBaselineAlgorithms() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> RandomSource.of("L64X128MixRandom", 0));
+    }
+
+    @Test
+    void testSplitReproducible() {
+        RandomSource a = new SplittableSource(0);
+        RandomSource b = new SplittableSource(0);
+        assertArrayEquals(draw(a.split(), 10), draw(b.split(), 10));
+        assertArrayEquals(draw(a, 10), draw(b, 10));
+    }
+
+    @Test
+    void testSecure() {
+        RandomSource source = new SecureSource();
+        assertEquals(1000, LongStream.of(draw(source, 1000)).distinct().count());
+        assertSame(source, source.split());
+    }
+
+    @Test
+    void testThreadsDistinct() throws InterruptedException {
+        testThreadsDistinct(RandomSource.perThread(new SplittableSource(0)));
+        testThreadsDistinct(RandomSource.perThread(new XoshiroSource(0)));
+        testThreadsDistinct(new SecureSource());
+    }
+
+    private static void testThreadsDistinct(RandomSource source) throws InterruptedException {
+        int threads = 8;
+        int amount = 1000;
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> LongStream.of(draw(source, amount)).forEach(values::add));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(threads * amount, values.size());
+    }
+
+    private static long[] draw(RandomSource source, int amount) {
+        return LongStream.range(0, amount).map(i -> source.nextLong()).toArray();
+    }
+}
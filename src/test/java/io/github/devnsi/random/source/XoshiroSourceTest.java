@@ -0,0 +1,42 @@
+package io.github.devnsi.random.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class XoshiroSourceTest {
+
+    @Test
+    void testReferenceValues() {
+        XoshiroSource source = new XoshiroSource(1, 2, 3, 4);
+        assertEquals(11520L, source.nextLong());
+        assertEquals(0L, source.nextLong());
+        assertEquals(1509978240L, source.nextLong());
+        assertEquals(1215971899390074240L, source.nextLong());
+    }
+
+    @Test
+    void testSeeded() {
+        assertEquals(new XoshiroSource(0).nextLong(), new XoshiroSource(0).nextLong());
+        assertNotEquals(new XoshiroSource(0).nextLong(), new XoshiroSource(1).nextLong());
+    }
+
+    @Test
+    void testSplit() {
+        XoshiroSource source = new XoshiroSource(0);
+        long expected = new XoshiroSource(0).nextLong();
+        RandomSource split = source.split();
+
+        assertEquals(expected, split.nextLong());
+        Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(source.nextLong());
+            values.add(split.nextLong());
+        }
+        assertEquals(2000, values.size());
+    }
+}